@@ -0,0 +1,132 @@
+package com.skala03.skala_backend.dto.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * evaluation_json 처리 비교 (키워드 10개짜리 지원자 결과 1건)
+ * - mapWalking: Map<String, Object>로 바인딩 후 instanceof/문자열 키로 탐색 (기존 방식)
+ * - typedBinding: FastApiDto.EvaluationJson으로 바로 바인딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EvaluationBindingBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        StringBuilder detailed = new StringBuilder();
+        for (int i = 1; i <= 10; i++) {
+            if (i > 1) {
+                detailed.append(',');
+            }
+            detailed.append("\"키워드").append(i).append("\":{")
+                    .append("\"final_score\":").append(i % 5 + 1).append(',')
+                    .append("\"score_rationale\":\"").append("지원자는 해당 역량에 대해 구체적인 경험을 들어 설명했습니다. ".repeat(4)).append("\",")
+                    .append("\"evidence\":[\"").append("답변 발췌 문장입니다. ".repeat(3)).append("\",\"")
+                    .append("추가 근거 문장입니다. ".repeat(3)).append("\"],")
+                    .append("\"sub_scores\":{\"clarity\":4,\"depth\":3,\"relevance\":5}}");
+        }
+
+        String json = "{\"applicant_id\":\"APP-001\",\"applicant_name\":\"홍길동\","
+                + "\"qna_s3_path\":\"s3://bucket/qna/APP-001.json\",\"pdf_s3_path\":\"s3://bucket/pdf/APP-001.pdf\","
+                + "\"evaluation_json\":{"
+                + "\"evaluation_summary\":{\"total_score\":78.5,\"grade\":\"B+\"},"
+                + "\"interview_summary\":\"" + "면접 전반에 걸쳐 논리적으로 답변했습니다. ".repeat(8) + "\","
+                + "\"next_questions\":\"" + "프로젝트에서 맡은 역할을 구체적으로 설명해 주세요. ".repeat(3) + "\","
+                + "\"detailed_evaluation\":{" + detailed + "}}}";
+        payload = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void mapWalking(Blackhole blackhole) throws Exception {
+        LegacyApplicantResult result = objectMapper.readValue(payload, LegacyApplicantResult.class);
+        walkLegacy(result.evaluationJson, blackhole);
+    }
+
+    @Benchmark
+    public void typedBinding(Blackhole blackhole) throws Exception {
+        FastApiDto.ApplicantResult result = objectMapper.readValue(payload, FastApiDto.ApplicantResult.class);
+        FastApiDto.EvaluationJson evaluationJson = result.getEvaluationJson();
+
+        blackhole.consume(evaluationJson.getEvaluationSummary().getTotalScore());
+        blackhole.consume(evaluationJson.getInterviewSummary());
+        blackhole.consume(evaluationJson.getNextQuestions());
+        for (Map.Entry<String, FastApiDto.KeywordEvaluation> entry : evaluationJson.getDetailedEvaluation().entrySet()) {
+            blackhole.consume(entry.getKey());
+            blackhole.consume(entry.getValue().getFinalScore().intValue());
+            blackhole.consume(entry.getValue().getScoreRationale());
+        }
+    }
+
+    // PipelineResultWriter의 이전 Map 탐색 로직과 동일
+    @SuppressWarnings("unchecked")
+    private static void walkLegacy(Map<String, Object> evaluationJson, Blackhole blackhole) {
+        if (evaluationJson == null || evaluationJson.containsKey("error")) {
+            return;
+        }
+
+        Object evaluationSummary = evaluationJson.get("evaluation_summary");
+        if (evaluationSummary instanceof Map) {
+            Object totalScore = ((Map<String, Object>) evaluationSummary).get("total_score");
+            if (totalScore instanceof Number) {
+                blackhole.consume(((Number) totalScore).floatValue());
+            }
+        }
+
+        Object interviewSummary = evaluationJson.get("interview_summary");
+        if (interviewSummary instanceof String) {
+            blackhole.consume(interviewSummary);
+        }
+
+        Object nextQuestions = evaluationJson.get("next_questions");
+        if (nextQuestions instanceof String) {
+            blackhole.consume(nextQuestions);
+        }
+
+        Object detailedEvaluation = evaluationJson.get("detailed_evaluation");
+        if (!(detailedEvaluation instanceof Map)) {
+            return;
+        }
+        for (Map.Entry<String, Object> entry : ((Map<String, Object>) detailedEvaluation).entrySet()) {
+            if (!(entry.getValue() instanceof Map)) {
+                continue;
+            }
+            Map<String, Object> keywordEval = (Map<String, Object>) entry.getValue();
+            Object finalScore = keywordEval.get("final_score");
+            Object scoreRationale = keywordEval.get("score_rationale");
+            if (finalScore instanceof Number) {
+                blackhole.consume(entry.getKey());
+                blackhole.consume(((Number) finalScore).intValue());
+                blackhole.consume(scoreRationale != null ? scoreRationale.toString() : "");
+            }
+        }
+    }
+
+    // 기존 ApplicantResult 형태 (evaluation_json을 Map으로 바인딩)
+    public static class LegacyApplicantResult {
+        @JsonProperty("applicant_id")
+        public String applicantId;
+
+        @JsonProperty("evaluation_json")
+        public Map<String, Object> evaluationJson;
+    }
+}
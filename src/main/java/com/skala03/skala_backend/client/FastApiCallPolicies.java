@@ -0,0 +1,201 @@
+package com.skala03.skala_backend.client;
+
+import com.skala03.skala_backend.global.config.FastApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * FastAPI 호출 종류별 정책 (타임아웃 / 재시도 횟수 / backoff / 재시도 예산)
+ * - 타임아웃은 시도 1회마다 적용 (헬스체크와 수 분짜리 파이프라인 호출이 같은 타임아웃을 쓰지 않도록)
+ * - 재시도 예산: 호출 1건마다 retryBudget(비율)만큼 토큰이 쌓이고 재시도 1회마다 1개 소비 (최대 retryBudgetBurst개)
+ *   장애 시 재시도가 전체 트래픽의 일정 비율을 넘지 않아 FastAPI 부하를 키우지 않음
+ * - 4xx 응답, 서킷 OPEN, 응답을 받은 뒤의 로컬 처리 실패(LocalFailureException)는 재시도하지 않음
+ * - 스트리밍 호출은 executeStreaming: 타임아웃을 호출 쪽 응답 스트림에 직접 걸어 결과 처리 시간이 포함되지 않게 함
+ * - 메트릭: fastapi.calls.attempts / retries / timeouts / retry.budget.exhausted {operation}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiCallPolicies {
+
+    public enum Operation {
+        KEYWORD_CRITERIA("keyword-criteria", true),
+        FULL_PIPELINE("full-pipeline", true),
+        // 헬스 프로브는 서킷 상태를 판단하는 쪽이므로 서킷을 거치지 않음
+        HEALTH("health", false);
+
+        private final String key;
+        private final boolean guarded;
+
+        Operation(String key, boolean guarded) {
+            this.key = key;
+            this.guarded = guarded;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final FastApiProperties fastApiProperties;
+    private final FastApiCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Operation, OperationMetrics> metrics = new EnumMap<>(Operation.class);
+    private final Map<Operation, RetryBudget> retryBudgets = new EnumMap<>(Operation.class);
+
+    @PostConstruct
+    public void init() {
+        for (Operation operation : Operation.values()) {
+            FastApiProperties.OperationPolicy policy = policyOf(operation);
+            metrics.put(operation, new OperationMetrics(operation));
+            retryBudgets.put(operation, new RetryBudget(policy.getRetryBudget(), policy.getRetryBudgetBurst()));
+            log.info("FastAPI 호출 정책: operation={}, timeout={}, maxRetries={}, backoff={}, retryBudget={}",
+                    operation.getKey(), policy.getTimeout(), policy.getMaxRetries(), policy.getBackoff(), policy.getRetryBudget());
+        }
+    }
+
+    public FastApiProperties.OperationPolicy policyOf(Operation operation) {
+        FastApiProperties.Operations operations = fastApiProperties.getOperations();
+        switch (operation) {
+            case KEYWORD_CRITERIA:
+                return operations.getKeywordCriteria();
+            case FULL_PIPELINE:
+                return operations.getFullPipeline();
+            default:
+                return operations.getHealth();
+        }
+    }
+
+    public <T> Mono<T> execute(Operation operation, Mono<T> call) {
+        return execute(operation, call, throwable -> true);
+    }
+
+    /**
+     * 정책 적용 - call은 구독(재시도)마다 새로 요청을 보내는 Mono여야 함
+     * @param retryable 호출별 추가 재시도 조건 (예: 스트리밍은 결과를 넘기기 전 오류만 재시도)
+     */
+    public <T> Mono<T> execute(Operation operation, Mono<T> call, Predicate<Throwable> retryable) {
+        return execute(operation, call, retryable, true);
+    }
+
+    /**
+     * 스트리밍 호출용 정책 적용 - 시도 전체에 타임아웃을 걸지 않음
+     * call이 policyOf(operation).getTimeout()을 FastAPI 응답 스트림에만 적용해야 함 (TimeoutException은 그대로 집계)
+     * 결과 처리(저장) 실패는 LocalFailureException으로 감싸야 서킷/재시도에서 제외됨
+     */
+    public <T> Mono<T> executeStreaming(Operation operation, Mono<T> call, Predicate<Throwable> retryable) {
+        return execute(operation, call, retryable, false);
+    }
+
+    private <T> Mono<T> execute(Operation operation, Mono<T> call, Predicate<Throwable> retryable, boolean withTimeout) {
+        FastApiProperties.OperationPolicy policy = policyOf(operation);
+        OperationMetrics operationMetrics = metrics.get(operation);
+        RetryBudget retryBudget = retryBudgets.get(operation);
+
+        Mono<T> attempt = (withTimeout ? call.timeout(policy.getTimeout()) : call)
+                .doOnSubscribe(subscription -> operationMetrics.attempts.increment())
+                .doOnError(TimeoutException.class, e -> {
+                    operationMetrics.timeouts.increment();
+                    log.warn("FastAPI 호출 타임아웃: operation={}, timeout={}", operation.getKey(), policy.getTimeout());
+                });
+        if (operation.guarded) {
+            attempt = attempt.transform(circuitBreaker::protect);
+        }
+
+        Mono<T> withRetry = attempt.retryWhen(Retry.backoff(policy.getMaxRetries(), policy.getBackoff())
+                .filter(throwable -> isRetryable(throwable) && retryable.test(throwable)
+                        && withdrawRetry(operation, retryBudget, operationMetrics))
+                .doBeforeRetry(signal -> {
+                    operationMetrics.retries.increment();
+                    log.warn("FastAPI 재시도: operation={}, attempt={}, error={}",
+                            operation.getKey(), signal.totalRetries() + 2, signal.failure().getMessage());
+                })
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+
+        return withRetry.doOnSubscribe(subscription -> retryBudget.deposit());
+    }
+
+    /**
+     * 다시 시도하면 성공할 수 있는 일시적 장애인지 (타임아웃, 연결 실패/끊김, 5xx)
+     * 4xx, success=false 응답, 서킷 OPEN처럼 같은 요청이면 같은 결과인 실패는 제외
+     */
+    public static boolean isTransient(Throwable throwable) {
+        if (throwable instanceof WebClientResponseException) {
+            return ((WebClientResponseException) throwable).getStatusCode().is5xxServerError();
+        }
+        return throwable instanceof TimeoutException || throwable instanceof WebClientRequestException;
+    }
+
+    private static boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof FastApiCircuitBreaker.OpenException
+                || throwable instanceof FastApiCircuitBreaker.LocalFailureException) {
+            return false;
+        }
+        return !(throwable instanceof WebClientResponseException
+                && ((WebClientResponseException) throwable).getStatusCode().is4xxClientError());
+    }
+
+    private static boolean withdrawRetry(Operation operation, RetryBudget retryBudget, OperationMetrics operationMetrics) {
+        if (retryBudget.tryWithdraw()) {
+            return true;
+        }
+        operationMetrics.budgetExhausted.increment();
+        log.warn("FastAPI 재시도 예산 소진, 재시도하지 않음: operation={}", operation.getKey());
+        return false;
+    }
+
+    private class OperationMetrics {
+        private final Counter attempts;
+        private final Counter retries;
+        private final Counter timeouts;
+        private final Counter budgetExhausted;
+
+        OperationMetrics(Operation operation) {
+            attempts = meterRegistry.counter("fastapi.calls.attempts", "operation", operation.getKey());
+            retries = meterRegistry.counter("fastapi.calls.retries", "operation", operation.getKey());
+            timeouts = meterRegistry.counter("fastapi.calls.timeouts", "operation", operation.getKey());
+            budgetExhausted = meterRegistry.counter("fastapi.calls.retry.budget.exhausted", "operation", operation.getKey());
+        }
+    }
+
+    /**
+     * 트래픽 비례 재시도 토큰 (처음에는 burst만큼 가득 찬 상태로 시작)
+     */
+    private static class RetryBudget {
+        private final double ratio;
+        private final double burst;
+        private double tokens;
+
+        RetryBudget(double ratio, int burst) {
+            this.ratio = ratio;
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        synchronized void deposit() {
+            tokens = Math.min(burst, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.skala03.skala_backend.client;
+
+import com.skala03.skala_backend.global.config.FastApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * FastAPI 호출 서킷 브레이커
+ * - CLOSED: 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openDuration 동안 호출하지 않고 즉시 OpenException (관리자 요청은 바로 mock으로 대체됨)
+ * - HALF_OPEN: openDuration이 지나거나 헬스 프로브가 성공하면 halfOpenMaxCalls개만 시험 호출, 성공 시 CLOSED / 실패 시 다시 OPEN
+ * - 4xx 응답은 요청 문제이므로 실패로 세지 않음
+ * - LocalFailureException(응답을 받은 뒤 우리 쪽 처리 실패)은 성공/실패 어느 쪽으로도 세지 않음
+ * - 상태는 fastapi.circuit.state 게이지(0=CLOSED, 1=HALF_OPEN, 2=OPEN)로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FastApiCircuitBreaker {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+
+    private final FastApiProperties fastApiProperties;
+    private final MeterRegistry meterRegistry;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicInteger halfOpenCalls = new AtomicInteger();
+    // 상태가 바뀔 때마다 증가 (synchronized 안에서만 읽고 씀)
+    private long stateGeneration;
+
+    private Counter rejectedCounter;
+
+    @PostConstruct
+    public void init() {
+        rejectedCounter = Counter.builder("fastapi.circuit.rejected")
+                .description("서킷 OPEN으로 호출하지 않고 거절한 FastAPI 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("fastapi.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("FastAPI 서킷 상태 (0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+                .register(meterRegistry);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 지금 호출을 보낼 수 있는 상태인지 (상태만 확인, 시험 호출 허용량은 소비하지 않음)
+     */
+    public boolean isCallPermitted() {
+        return state == State.CLOSED || state == State.HALF_OPEN || openDurationElapsed();
+    }
+
+    /**
+     * 호출 보호 - 구독(재시도 포함)할 때마다 서킷 상태를 확인
+     */
+    public <T> Mono<T> protect(Mono<T> call) {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit == Permit.REJECTED) {
+                rejectedCounter.increment();
+                return Mono.error(new OpenException());
+            }
+            return call
+                    .doOnSuccess(result -> onSuccess())
+                    .doOnError(error -> {
+                        if (error instanceof LocalFailureException) {
+                            // FastAPI 상태와 무관 - 시험 호출 자리만 반납
+                            releaseTrial(permit);
+                        } else if (isFailure(error)) {
+                            onFailure(error);
+                        } else {
+                            onSuccess();
+                        }
+                    })
+                    .doOnCancel(() -> releaseTrial(permit));
+        });
+    }
+
+    /**
+     * 백그라운드 헬스 프로브 결과 반영
+     */
+    public synchronized void onProbeResult(boolean healthy) {
+        if (healthy) {
+            if (state == State.OPEN) {
+                transitionTo(State.HALF_OPEN);
+            }
+        } else {
+            onFailure(null);
+        }
+    }
+
+    private synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (!openDurationElapsed()) {
+                return Permit.REJECTED;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenCalls.get() >= fastApiProperties.getCircuitBreaker().getHalfOpenMaxCalls()) {
+                return Permit.REJECTED;
+            }
+            halfOpenCalls.incrementAndGet();
+            return new Permit(stateGeneration);
+        }
+        return Permit.NORMAL;
+    }
+
+    // 시험 호출 자리 반납 - 자리를 잡은 뒤 상태가 바뀌었으면 이미 0으로 초기화되었으므로 반납하지 않음
+    private synchronized void releaseTrial(Permit permit) {
+        if (permit.trial && permit.generation == stateGeneration && halfOpenCalls.get() > 0) {
+            halfOpenCalls.decrementAndGet();
+        }
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private synchronized void onFailure(Throwable error) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state == State.HALF_OPEN
+                || (state == State.CLOSED && failures >= fastApiProperties.getCircuitBreaker().getFailureThreshold())) {
+            log.warn("FastAPI 서킷 OPEN: 연속 실패 {}회, error={}", failures, error != null ? error.getMessage() : "헬스 프로브 실패");
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        if (previous == next) {
+            return;
+        }
+        state = next;
+        stateGeneration++;
+        halfOpenCalls.set(0);
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+        }
+        meterRegistry.counter("fastapi.circuit.transitions", "to", next.name()).increment();
+        log.info("FastAPI 서킷 상태 변경: {} → {}", previous, next);
+    }
+
+    private boolean openDurationElapsed() {
+        return System.nanoTime() - openedAtNanos >= fastApiProperties.getCircuitBreaker().getOpenDuration().toNanos();
+    }
+
+    // 4xx는 FastAPI 장애가 아니라 요청 문제
+    private boolean isFailure(Throwable error) {
+        return !(error instanceof WebClientResponseException
+                && ((WebClientResponseException) error).getStatusCode().is4xxClientError());
+    }
+
+    /**
+     * 호출 허가 (tryAcquire 잠금 안에서 정해짐 - 그 뒤 상태가 바뀌어도 시험 호출 여부는 그대로)
+     */
+    private static final class Permit {
+        private static final Permit NORMAL = new Permit(false, 0);
+        private static final Permit REJECTED = new Permit(false, 0);
+
+        private final boolean trial;
+        private final long generation;
+
+        // HALF_OPEN 시험 호출 자리를 하나 잡은 허가
+        private Permit(long generation) {
+            this(true, generation);
+        }
+
+        private Permit(boolean trial, long generation) {
+            this.trial = trial;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * FastAPI 응답은 정상인데 결과 처리(저장 등)에서 난 실패 - 서킷/재시도 집계에서 제외
+     */
+    public static class LocalFailureException extends RuntimeException {
+        public LocalFailureException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 서킷 OPEN으로 호출하지 않음
+     */
+    public static class OpenException extends RuntimeException {
+        public OpenException() {
+            super("FastAPI 서킷이 열려 있어 호출하지 않았습니다.");
+        }
+    }
+}
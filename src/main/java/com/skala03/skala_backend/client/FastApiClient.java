@@ -6,27 +6,43 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.Sinks;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
 
 import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import com.skala03.skala_backend.dto.client.FastApiDto;
 @Component
 @Slf4j
@@ -40,6 +56,19 @@ public class FastApiClient {
     @Value("${fastapi.api-key:internal-api-key}")
     private String apiKey;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FastApiCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private FastApiCallPolicies callPolicies;
+
+    // 마지막 백그라운드 헬스 프로브 결과 (첫 프로브 전에는 정상으로 간주)
+    private volatile boolean lastProbeHealthy = true;
+    private final AtomicBoolean probing = new AtomicBoolean();
+
     @PostConstruct
     public void init() {
         // 연결 풀 설정
@@ -51,13 +80,11 @@ public class FastApiClient {
                 .evictInBackground(Duration.ofSeconds(30))
                 .build();
 
-        // HttpClient 전역 타임아웃 설정 (5분)
+        // 응답 타임아웃은 호출 종류별 정책(FastApiCallPolicies)에서 시도마다 적용
         HttpClient httpClient = HttpClient.create(connectionProvider)
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 15_000) // 연결 타임아웃: 15초
-                .responseTimeout(Duration.ofMinutes(5)) //  전역 응답 타임아웃: 5분
                 .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(5, TimeUnit.MINUTES))   // 전역 읽기 타임아웃: 5분
-                                .addHandlerLast(new WriteTimeoutHandler(1, TimeUnit.MINUTES))); // 쓰기 타임아웃: 1분
+                        conn.addHandlerLast(new WriteTimeoutHandler(1, TimeUnit.MINUTES))); // 쓰기 타임아웃: 1분
 
         // WebClient 생성
         this.webClient = WebClient.builder()
@@ -66,18 +93,31 @@ public class FastApiClient {
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("X-API-KEY", apiKey)
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(70 * 1024 * 1024)) // 70MB
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(70 * 1024 * 1024)) // 70MB (스트리밍 수신은 해당 없음)
                 .build();
 
-        log.info("FastAPI WebClient 초기화 완료: baseUrl={}, 전역타임아웃=5분", fastApiBaseUrl);
+        log.info("FastAPI WebClient 초기화 완료: baseUrl={}", fastApiBaseUrl);
     }
 
-    // ===== 키워드 생성 메서드 (타임아웃 제거) =====
+    // ===== 키워드 생성 메서드 =====
     public FastApiDto.KeywordResponse generateKeywordCriteria(FastApiDto.KeywordRequest request) {
         try {
+            return generateKeywordCriteriaAsync(request).block();
+        } catch (Exception e) {
+            log.error("FastAPI 키워드 생성 클라이언트 오류: ", e);
+            throw new RuntimeException("AI 키워드 생성 서비스 호출에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 키워드 생성 (논블로킹) - 응답을 기다리는 동안 스레드를 점유하지 않음
+     * 동시 호출 수는 fastapi-pool 커넥션 수로 제한됨
+     */
+    public Mono<FastApiDto.KeywordResponse> generateKeywordCriteriaAsync(FastApiDto.KeywordRequest request) {
+        return callPolicies.execute(FastApiCallPolicies.Operation.KEYWORD_CRITERIA, Mono.defer(() -> {
             log.info("FastAPI 키워드 생성 호출: keywordName={}", request.getKeywordName());
 
-            FastApiDto.KeywordResponse response = webClient.post()
+            return webClient.post()
                     .uri("/ai/generate-keyword-criteria")
                     .bodyValue(request)
                     .retrieve()
@@ -92,112 +132,221 @@ public class FastApiClient {
                                                 clientResponse.statusCode() + "): " + body)));
                             }
                     )
-                    .bodyToMono(FastApiDto.KeywordResponse.class)
-                    // .timeout() 제거 - HttpClient 전역 설정 사용 (5분)
-                    .retryWhen(Retry.backoff(2, Duration.ofSeconds(3))
-                            .filter(throwable -> !(throwable instanceof WebClientResponseException
-                                    && ((WebClientResponseException) throwable).getStatusCode().is4xxClientError())))
-                    .doOnSuccess(res -> {
-                        if (res != null && res.isSuccess()) {
-                            log.info("키워드 생성 성공: keywordName={}, 기준수={}",
-                                    res.getKeywordName(), res.getCriteria() != null ? res.getCriteria().size() : 0);
-                        }
-                    })
-                    .doOnError(error -> log.error("키워드 생성 오류: ", error))
-                    .block();
-
-            if (response == null) {
-                throw new RuntimeException("FastAPI 응답이 null입니다.");
-            }
-
-            return response;
+                    .bodyToMono(FastApiDto.KeywordResponse.class);
+        }))
+                .doOnSuccess(res -> {
+                    if (res != null && res.isSuccess()) {
+                        log.info("키워드 생성 성공: keywordName={}, 기준수={}",
+                                res.getKeywordName(), res.getCriteria() != null ? res.getCriteria().size() : 0);
+                    }
+                })
+                .doOnError(error -> log.error("키워드 생성 오류: ", error))
+                .switchIfEmpty(Mono.error(new RuntimeException("FastAPI 응답이 null입니다.")));
+    }
 
+    // ===== Full Pipeline 메서드 =====
+    public FastApiDto.PipelineResponse callFullPipeline(InterviewProcessingDto.FastApiRequest request) {
+        try {
+            return callFullPipelineAsync(request).block();
         } catch (Exception e) {
-            log.error("FastAPI 키워드 생성 클라이언트 오류: ", e);
-            throw new RuntimeException("AI 키워드 생성 서비스 호출에 실패했습니다: " + e.getMessage());
+            log.error("FastAPI Pipeline 클라이언트 오류: sessionId={}", request.getSessionId(), e);
+            throw new RuntimeException("면접 처리 서비스 호출에 실패했습니다: " + e.getMessage());
         }
     }
 
-    // ===== Full Pipeline 메서드 (타임아웃 제거) =====
-    public FastApiDto.PipelineResponse callFullPipeline(InterviewProcessingDto.FastApiRequest request) {
-        try {
+    /**
+     * Full Pipeline (논블로킹) - 수 분 응답 대기 동안 스레드를 점유하지 않음 (타임아웃/재시도는 operations.full-pipeline)
+     * 동시 호출 수는 fastapi-pool 커넥션 수로 제한됨
+     */
+    public Mono<FastApiDto.PipelineResponse> callFullPipelineAsync(InterviewProcessingDto.FastApiRequest request) {
+        return callFullPipelineAsync(request, throwable -> true);
+    }
+
+    /**
+     * @param retryable 정책 재시도 조건 (호출 쪽에서 따로 재시도하면 throwable -> false로 정책 재시도를 끔)
+     */
+    public Mono<FastApiDto.PipelineResponse> callFullPipelineAsync(InterviewProcessingDto.FastApiRequest request,
+                                                                   Predicate<Throwable> retryable) {
+        return callPolicies.execute(FastApiCallPolicies.Operation.FULL_PIPELINE, Mono.defer(() -> {
             log.info(" FastAPI full-pipeline 호출 시작: sessionId={}, 지원자수={}",
                     request.getSessionId(), request.getApplicantIds().size());
 
-            FastApiDto.PipelineResponse response = webClient.post()
+            return webClient.post()
                     .uri("/ai/full-pipeline")
                     .bodyValue(request)
                     .retrieve()
-                    .onStatus(
-                            httpStatus -> httpStatus.value() >= 400,
-                            clientResponse -> {
-                                log.error("FastAPI Pipeline 오류: status={}", clientResponse.statusCode());
-                                return clientResponse.bodyToMono(String.class)
-                                        .defaultIfEmpty("No error body")
-                                        .doOnNext(body -> log.error("FastAPI Pipeline 오류 응답: {}", body))
-                                        .flatMap(body -> Mono.error(new RuntimeException("FastAPI Pipeline 실패 (status: " +
-                                                clientResponse.statusCode() + "): " + body)));
-                            }
-                    )
-                    .bodyToMono(FastApiDto.PipelineResponse.class)
-                    //  .timeout() 제거 - HttpClient 전역 설정 사용 (5분)
-                    .retryWhen(Retry.backoff(1, Duration.ofSeconds(10)) // 재시도 1회
-                            .filter(throwable -> {
-                                // 4xx 에러는 재시도하지 않음
-                                if (throwable instanceof WebClientResponseException) {
-                                    WebClientResponseException ex = (WebClientResponseException) throwable;
-                                    return !ex.getStatusCode().is4xxClientError();
-                                }
-                                // 네트워크 오류, 타임아웃 등은 재시도
-                                return true;
-                            })
-                            .doBeforeRetry(retrySignal ->
-                                    log.warn(" FastAPI Pipeline 재시도: attempt={}, error={}",
-                                            retrySignal.totalRetries() + 1, retrySignal.failure().getMessage())))
-                    .doOnSuccess(res -> {
-                        if (res != null && res.isSuccess()) {
-                            log.info("FastAPI Pipeline 성공: sessionId={}, 성공/실패={}/{}, 처리시간={}초",
-                                    res.getSessionId(), res.getSuccessfulCount(), res.getFailedCount(),
-                                    res.getTotalProcessingTime());
-                        } else if (res != null) {
-                            log.warn("FastAPI Pipeline 부분 실패: sessionId={}, message={}",
-                                    res.getSessionId(), res.getMessage());
+                    .onStatus(httpStatus -> httpStatus.value() >= 400, this::toPipelineError)
+                    .bodyToMono(FastApiDto.PipelineResponse.class);
+        }), retryable)
+                .doOnSuccess(res -> {
+                    if (res != null && res.isSuccess()) {
+                        log.info("FastAPI Pipeline 성공: sessionId={}, 성공/실패={}/{}, 처리시간={}초",
+                                res.getSessionId(), res.getSuccessfulCount(), res.getFailedCount(),
+                                res.getTotalProcessingTime());
+                    } else if (res != null) {
+                        log.warn("FastAPI Pipeline 부분 실패: sessionId={}, message={}",
+                                res.getSessionId(), res.getMessage());
+                    }
+                })
+                .doOnError(error -> {
+                    log.error("FastAPI Pipeline 오류: sessionId={}, error={}",
+                            request.getSessionId(), error.getMessage());
+                })
+                .switchIfEmpty(Mono.error(new RuntimeException("FastAPI Pipeline 응답이 null입니다.")));
+    }
+
+    /**
+     * Full Pipeline (스트리밍 수신)
+     * - 응답 전체를 메모리에 올리지 않고, evaluation_results 원소가 파싱되는 즉시 resultHandler로 넘김
+     *   (마지막 지원자 도착 전에 앞선 결과부터 저장 가능)
+     * - 응답 조각/지원자 결과 모두 prefetch 1로 요청하므로 힙에는 처리 중인 응답 조각 1개,
+     *   그 조각에서 완성된 지원자 결과, 파싱 중인 지원자 1명분 토큰만 남음
+     *   (조각 하나에 여러 지원자가 들어 있으면 그만큼은 함께 올라옴)
+     * - resultHandler는 순서대로 하나씩 호출되며, 처리가 끝나야 다음 응답 조각을 읽음 (backpressure)
+     * - FULL_PIPELINE 타임아웃은 응답 조각 사이 무응답 시간에만 적용 (resultHandler 처리 시간은 제외)
+     * - resultHandler 실패는 FastAPI 장애가 아니므로 서킷/재시도 집계에서 제외하고 원래 예외로 전달
+     * - 지원자 결과를 하나라도 넘긴 뒤의 오류는 재시도하지 않음 (파이프라인 작업 재시도에 맡김)
+     * @return evaluation_results를 제외한 요약 응답 (evaluationResults는 빈 목록)
+     */
+    public Mono<FastApiDto.PipelineResponse> callFullPipelineStreaming(
+            InterviewProcessingDto.FastApiRequest request,
+            Function<FastApiDto.ApplicantResult, Mono<Void>> resultHandler) {
+
+        AtomicInteger delivered = new AtomicInteger();
+
+        Duration timeout = callPolicies.policyOf(FastApiCallPolicies.Operation.FULL_PIPELINE).getTimeout();
+
+        return callPolicies.executeStreaming(FastApiCallPolicies.Operation.FULL_PIPELINE, Mono.defer(() -> {
+            log.info(" FastAPI full-pipeline 스트리밍 호출 시작: sessionId={}, 지원자수={}",
+                    request.getSessionId(), request.getApplicantIds().size());
+
+            // 구독(재시도)마다 새 파서
+            PipelineResponseStreamParser parser = newStreamParser();
+
+            Flux<DataBuffer> body = webClient.post()
+                    .uri("/ai/full-pipeline")
+                    .bodyValue(request)
+                    .retrieve()
+                    .onStatus(httpStatus -> httpStatus.value() >= 400, this::toPipelineError)
+                    .bodyToFlux(DataBuffer.class);
+
+            return timeoutWhileRequested(body, timeout)
+                    .concatMapIterable(buffer -> feed(parser, buffer), 1)
+                    .concatMap(result -> {
+                        delivered.incrementAndGet();
+                        return Mono.defer(() -> resultHandler.apply(result))
+                                .onErrorMap(FastApiCircuitBreaker.LocalFailureException::new);
+                    }, 1)
+                    .then(Mono.fromCallable(parser::finish));
+        }), throwable -> delivered.get() == 0)
+                .onErrorMap(FastApiCircuitBreaker.LocalFailureException.class, Throwable::getCause)
+                .doOnSuccess(res -> log.info("FastAPI Pipeline 스트리밍 완료: sessionId={}, 수신 지원자={}명, success={}",
+                        request.getSessionId(), delivered.get(), res != null && res.isSuccess()))
+                .doOnError(error -> log.error("FastAPI Pipeline 스트리밍 오류: sessionId={}, 수신 지원자={}명, error={}",
+                        request.getSessionId(), delivered.get(), error.getMessage()));
+    }
+
+    /**
+     * 응답 스트림 무응답 타임아웃 - 다음 조각을 요청한 뒤부터만 시간을 잼
+     * (resultHandler가 앞 조각의 결과를 저장하는 동안은 요청이 없으므로 FastAPI 대기 시간에 포함되지 않음)
+     */
+    private static <T> Flux<T> timeoutWhileRequested(Flux<T> source, Duration timeout) {
+        return Flux.defer(() -> {
+            AtomicLong requested = new AtomicLong();
+            AtomicLong received = new AtomicLong();
+            AtomicReference<Sinks.Empty<Void>> nextRequest = new AtomicReference<>();
+            return source
+                    .timeout(Mono.delay(timeout), item -> {
+                        long count = received.incrementAndGet();
+                        Sinks.Empty<Void> requestedAgain = Sinks.empty();
+                        nextRequest.set(requestedAgain);
+                        // 조각을 넘기는 도중에 이미 다음 요청이 온 경우
+                        if (requested.get() > count) {
+                            requestedAgain.tryEmitEmpty();
                         }
+                        return requestedAgain.asMono().then(Mono.delay(timeout));
                     })
-                    .doOnError(error -> {
-                        log.error("FastAPI Pipeline 오류: sessionId={}, error={}",
-                                request.getSessionId(), error.getMessage());
-                    })
-                    .block();
-
-            if (response == null) {
-                throw new RuntimeException("FastAPI Pipeline 응답이 null입니다.");
-            }
+                    .doOnRequest(n -> {
+                        requested.accumulateAndGet(n, Operators::addCap);
+                        Sinks.Empty<Void> requestedAgain = nextRequest.getAndSet(null);
+                        if (requestedAgain != null) {
+                            requestedAgain.tryEmitEmpty();
+                        }
+                    });
+        });
+    }
 
-            return response;
+    private PipelineResponseStreamParser newStreamParser() {
+        try {
+            return new PipelineResponseStreamParser(objectMapper);
+        } catch (IOException e) {
+            throw new UncheckedIOException("FastAPI Pipeline 응답 파서 생성 실패", e);
+        }
+    }
 
-        } catch (Exception e) {
-            log.error("FastAPI Pipeline 클라이언트 오류: sessionId={}", request.getSessionId(), e);
-            throw new RuntimeException("면접 처리 서비스 호출에 실패했습니다: " + e.getMessage());
+    private static List<FastApiDto.ApplicantResult> feed(PipelineResponseStreamParser parser, DataBuffer buffer) {
+        try {
+            return parser.feed(buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("FastAPI Pipeline 응답 파싱 실패: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
         }
     }
 
-    // 헬스체크 메서드 (타임아웃 제거)
+    // 상태 코드를 유지해야 4xx(재시도/서킷 실패 제외)와 5xx를 구분할 수 있음
+    private Mono<? extends Throwable> toPipelineError(ClientResponse clientResponse) {
+        log.error("FastAPI Pipeline 오류: status={}", clientResponse.statusCode());
+        return clientResponse.bodyToMono(String.class)
+                .defaultIfEmpty("No error body")
+                .doOnNext(body -> log.error("FastAPI Pipeline 오류 응답: {}", body))
+                .flatMap(body -> Mono.error(new WebClientResponseException(
+                        "FastAPI Pipeline 실패 (status: " + clientResponse.statusCode() + "): " + body,
+                        clientResponse.statusCode().value(), "", clientResponse.headers().asHttpHeaders(),
+                        body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 헬스 상태 (캐시) - 네트워크 호출 없이 마지막 백그라운드 프로브 결과와 서킷 상태로 판단
+     * 장애 중에는 즉시 false를 반환하므로 호출 측은 바로 mock 등으로 대체할 수 있음
+     */
     public boolean isHealthy() {
-        try {
-            String response = webClient.get()
-                    .uri("/ai/health2")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    //  .timeout() 제거 - HttpClient 전역 설정 사용 (5분)
-                    .block();
+        return lastProbeHealthy && circuitBreaker.isCallPermitted();
+    }
 
-            log.debug("FastAPI 헬스체크 성공: {}", response);
-            return true;
-        } catch (Exception e) {
-            log.warn("FastAPI 헬스체크 실패: {}", e.getMessage());
-            return false;
+    public Mono<Boolean> isHealthyAsync() {
+        return Mono.fromSupplier(this::isHealthy);
+    }
+
+    /**
+     * 백그라운드 헬스 프로브 - 짧은 타임아웃(operations.health)으로 /ai/health2 확인 후 결과를 캐시하고 서킷에 반영
+     * (OPEN 상태에서 프로브가 성공하면 HALF_OPEN으로 전환되어 시험 호출 허용)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${fastapi.health.probe-interval:10s}")
+    public void probeHealth() {
+        // 이전 프로브가 아직 끝나지 않았으면 건너뜀
+        if (!probing.compareAndSet(false, true)) {
+            return;
         }
+        callPolicies.execute(FastApiCallPolicies.Operation.HEALTH, webClient.get()
+                        .uri("/ai/health2")
+                        .retrieve()
+                        .bodyToMono(String.class))
+                .doOnNext(response -> log.debug("FastAPI 헬스체크 성공: {}", response))
+                .map(response -> true)
+                .defaultIfEmpty(true)
+                .onErrorResume(e -> {
+                    log.warn("FastAPI 헬스체크 실패: {}", e.getMessage());
+                    return Mono.just(false);
+                })
+                .doFinally(signal -> probing.set(false))
+                .subscribe(healthy -> {
+                    if (healthy != lastProbeHealthy) {
+                        log.info("FastAPI 헬스 상태 변경: {} → {}", lastProbeHealthy, healthy);
+                    }
+                    lastProbeHealthy = healthy;
+                    circuitBreaker.onProbeResult(healthy);
+                });
     }
 
 
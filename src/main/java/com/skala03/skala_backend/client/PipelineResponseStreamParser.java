@@ -0,0 +1,137 @@
+package com.skala03.skala_backend.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.skala03.skala_backend.dto.client.FastApiDto;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * FastAPI full-pipeline 응답 스트리밍 파서 (Jackson non-blocking 파서)
+ * - 응답 바이트를 도착하는 대로 넣으면 evaluation_results 배열 원소가 완성될 때마다 ApplicantResult로 변환해 돌려줌
+ * - 그 외 최상위 필드(success, session_id, raw_stt_s3_path ...)는 따로 모아 finish()에서 PipelineResponse로 변환
+ * - 파서 내부에는 현재 파싱 중인 지원자 1명분 토큰만 유지 (feed 한 번에 완성된 지원자는 목록으로 한꺼번에 반환)
+ * - 요청(구독) 1건당 인스턴스 1개, 스레드 안전하지 않음
+ */
+final class PipelineResponseStreamParser {
+
+    private static final String RESULTS_FIELD = "evaluation_results";
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    // evaluation_results를 제외한 최상위 필드
+    private final TokenBuffer summary;
+    private int depth;
+
+    private boolean resultsFieldPending;
+    private boolean inResults;
+
+    // 파싱 중인 evaluation_results 원소
+    private TokenBuffer element;
+    private int elementDepth;
+
+    PipelineResponseStreamParser(ObjectMapper objectMapper) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.summary = new TokenBuffer(parser);
+    }
+
+    /**
+     * 응답 조각 입력
+     * @return 이번 조각으로 완성된 지원자 결과 (없으면 빈 목록)
+     */
+    List<FastApiDto.ApplicantResult> feed(DataBuffer buffer) throws IOException {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        feeder.feedInput(bytes, 0, bytes.length);
+        return drain();
+    }
+
+    /**
+     * 응답 종료 - evaluation_results를 제외한 요약 응답 반환
+     */
+    FastApiDto.PipelineResponse finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        if (depth != 0 || inResults || element != null) {
+            throw new IOException("FastAPI Pipeline 응답이 완전하지 않습니다.");
+        }
+
+        FastApiDto.PipelineResponse response =
+                objectMapper.readValue(summary.asParser(objectMapper), FastApiDto.PipelineResponse.class);
+        if (response == null) {
+            throw new IOException("FastAPI Pipeline 응답이 비어있습니다.");
+        }
+        response.setEvaluationResults(Collections.emptyList());
+        return response;
+    }
+
+    private List<FastApiDto.ApplicantResult> drain() throws IOException {
+        List<FastApiDto.ApplicantResult> parsed = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (inResults) {
+                onResultToken(token, parsed);
+                continue;
+            }
+
+            if (resultsFieldPending) {
+                resultsFieldPending = false;
+                if (token == JsonToken.START_ARRAY) {
+                    inResults = true;
+                } else if (token != JsonToken.VALUE_NULL) {
+                    throw new IOException("evaluation_results가 배열이 아닙니다: " + token);
+                }
+                continue;
+            }
+
+            if (depth == 1 && token == JsonToken.FIELD_NAME && RESULTS_FIELD.equals(parser.currentName())) {
+                resultsFieldPending = true;
+                continue;
+            }
+
+            summary.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        }
+        return parsed;
+    }
+
+    private void onResultToken(JsonToken token, List<FastApiDto.ApplicantResult> parsed) throws IOException {
+        if (element == null) {
+            if (token == JsonToken.END_ARRAY) {
+                inResults = false;
+                return;
+            }
+            element = new TokenBuffer(parser);
+        }
+
+        element.copyCurrentEvent(parser);
+        if (token.isStructStart()) {
+            elementDepth++;
+        } else if (token.isStructEnd()) {
+            elementDepth--;
+        }
+
+        if (elementDepth == 0) {
+            // 형식 오류는 이 지원자 결과에만 bindingError로 남기고 스트림은 계속 읽음
+            JsonNode node = objectMapper.readTree(element.asParser(objectMapper));
+            parsed.add(FastApiDto.ApplicantResultDeserializer.bind(objectMapper, node));
+            element = null;
+        }
+    }
+}
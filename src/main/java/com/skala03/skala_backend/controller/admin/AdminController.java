@@ -9,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -44,40 +46,45 @@ public class AdminController {
         }
     }
 
-    // AI 기반 평가기준 생성
+    // AI 기반 평가기준 생성 (FastAPI 응답 대기 중 요청 스레드를 점유하지 않음)
     // 기존 키워드용 (DB에 있는 키워드)
     @PostMapping("/ai-generate-keywords/{keywordId}")
     @Operation(summary = "기존 키워드에 대한 평가기준을 AI로 생성")
-    public ResponseEntity<?> aiGenerateKeywords(
+    public CompletableFuture<ResponseEntity<?>> aiGenerateKeywords(
             @PathVariable Integer keywordId,
             @RequestBody AdminDto.AiGenerateRequest request) {
         try {
-            AdminDto.AiGenerateResponse response = adminService.generateAiCriteria(keywordId, request);
-            return ResponseEntity.ok(response);
+            return toResponse(adminService.generateAiCriteriaAsync(keywordId, request));
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Internal server error");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
         }
     }
 
     // 신규 키워드용 (DB에 없는 키워드)
     @PostMapping("/ai-generate-keywords/new")
     @Operation(summary = "새로운 키워드에 대한 평가기준을 AI로 생성")
-    public ResponseEntity<?> aiGenerateKeywordsForNew(
+    public CompletableFuture<ResponseEntity<?>> aiGenerateKeywordsForNew(
             @RequestBody AdminDto.NewKeywordAiGenerateRequest request) {
         try {
-            AdminDto.AiGenerateResponse response = adminService.generateAiCriteriaForNewKeyword(
+            return toResponse(adminService.generateAiCriteriaForNewKeywordAsync(
                     request.getKeywordName(),
-                    request.getKeywordDetail());
-            return ResponseEntity.ok(response);
+                    request.getKeywordDetail()));
         } catch (RuntimeException e) {
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError().body("Internal server error");
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(e.getMessage()));
         }
     }
 
+    private CompletableFuture<ResponseEntity<?>> toResponse(CompletableFuture<AdminDto.AiGenerateResponse> future) {
+        return future.<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof RuntimeException) {
+                        return ResponseEntity.badRequest().body(cause.getMessage());
+                    }
+                    return ResponseEntity.internalServerError().body("Internal server error");
+                });
+    }
+
     // 키워드 수정
     @PutMapping("/change-keywords/{keywordId}")
     @Operation(summary = "키워드에 대한 설명 및 평가 기준 수정")
@@ -1,7 +1,8 @@
 package com.skala03.skala_backend.controller.interview;
 
 import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
-import com.skala03.skala_backend.service.interview.InterviewProcessingService;
+import com.skala03.skala_backend.dto.interview.PipelineJobDto;
+import com.skala03.skala_backend.service.interview.PipelineJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,8 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.Map;
 
 @RestController
@@ -20,7 +19,7 @@ import java.util.Map;
 @Slf4j
 public class InterviewProcessingController {
 
-    private final InterviewProcessingService interviewProcessingService;
+    private final PipelineJobService pipelineJobService;
 
     @PostMapping("/process-full-pipeline")
     @Operation(summary = "면접 전체 파이프라인 처리",
@@ -36,31 +35,8 @@ public class InterviewProcessingController {
             // 입력 검증
             validateRequest(request);
 
-            // 고유한 작업 ID 생성
-            String jobId = UUID.randomUUID().toString();
-
-            //  비동기로 처리 시작 (즉시 반환)
-            CompletableFuture.runAsync(() -> {
-                try {
-                    log.info("백그라운드 처리 시작: jobId={}, sessionId={}", jobId, request.getSessionId());
-
-                    // 실제 처리 수행
-                    InterviewProcessingDto.ProcessingResponse result =
-                            interviewProcessingService.processFullPipeline(request);
-
-                    if (result.isSuccess()) {
-                        log.info("백그라운드 처리 완료: jobId={}, sessionId={}, 성공={}, 실패={}",
-                                jobId, request.getSessionId(), result.getSuccessfulCount(), result.getFailedCount());
-                    } else {
-                        log.error("백그라운드 처리 실패: jobId={}, sessionId={}, message={}",
-                                jobId, request.getSessionId(), result.getMessage());
-                    }
-
-                } catch (Exception e) {
-                    log.error("백그라운드 처리 중 예외 발생: jobId={}, sessionId={}, error={}",
-                            jobId, request.getSessionId(), e.getMessage(), e);
-                }
-            });
+            // DB 작업 큐에 등록 (PipelineJobWorker가 가져가 실행, 재시작 후에도 유지)
+            String jobId = pipelineJobService.enqueue(request);
 
             // 즉시 작업 시작 응답 반환
             return ResponseEntity.ok(Map.of(
@@ -71,7 +47,8 @@ public class InterviewProcessingController {
                     "message", "면접 처리가 백그라운드에서 시작되었습니다.",
                     "totalApplicants", request.getApplicantIds().size(),
                     "estimatedTime", "약 3-5분 소요 예상",
-                    "note", "처리가 완료되면 해당 세션의 지원자 상태가 업데이트됩니다."
+                    "note", "처리가 완료되면 해당 세션의 지원자 상태가 업데이트됩니다.",
+                    "statusUrl", "/api/interviewers/process-full-pipeline/" + jobId
             ));
 
         } catch (IllegalArgumentException e) {
@@ -95,6 +72,15 @@ public class InterviewProcessingController {
         }
     }
 
+    @GetMapping("/process-full-pipeline/{jobId}")
+    @Operation(summary = "면접 파이프라인 작업 상태 조회",
+            description = "process-full-pipeline이 반환한 jobId로 작업 상태(QUEUED/RUNNING/SUCCEEDED/FAILED)를 조회합니다.")
+    public ResponseEntity<PipelineJobDto.StatusResponse> getPipelineJob(@PathVariable String jobId) {
+        return pipelineJobService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     private void validateRequest(InterviewProcessingDto.ProcessingRequest request) {
         if (request.getSessionId() == null) {
             throw new IllegalArgumentException("세션 ID는 필수입니다.");
@@ -30,6 +30,15 @@ public class InterviewSessionController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "heartbeat", description = "참가자 접속 유지 신호 (presence.ttl 동안 없으면 OFFLINE 처리)")
+    @PostMapping("/heartbeat/{roomId}/{userId}")
+    public ResponseEntity<Void> heartbeat(
+            @PathVariable String roomId,
+            @PathVariable String userId) {
+        interviewSessionService.heartbeat(roomId, userId);
+        return ResponseEntity.ok().build();
+    }
+
     @Operation(summary = "세션 종료", description = "사용자가 세션을 종료")
     @PostMapping("/end-session/{roomId}/{userId}")
     public ResponseEntity<Void> endSession(
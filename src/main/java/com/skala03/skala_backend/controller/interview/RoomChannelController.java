@@ -0,0 +1,37 @@
+package com.skala03.skala_backend.controller.interview;
+
+import com.skala03.skala_backend.dto.interview.RoomEventDto;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import com.skala03.skala_backend.service.interview.RoomPresenceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 면접방 채널 스냅샷
+ * 클라이언트는 /topic/rooms/{roomId}를 먼저 구독한 뒤 /app/rooms/{roomId}를 구독해 현재 상태를 받는다.
+ * (스냅샷 이후 변경분은 topic으로 전달됨)
+ */
+@Controller
+@RequiredArgsConstructor
+public class RoomChannelController {
+
+    private final RoomPresenceRegistry roomPresenceRegistry;
+    private final SessionRepository sessionRepository;
+
+    @SubscribeMapping("/rooms/{roomId}")
+    public RoomEventDto.RoomEvent snapshot(@DestinationVariable String roomId) {
+        List<RoomEventDto.SessionState> sessions = sessionRepository.findByRoomIdOrderBySessionDate(roomId).stream()
+                .map(session -> new RoomEventDto.SessionState(session.getSessionId(), session.getSessionStatus()))
+                .collect(Collectors.toList());
+        List<RoomEventDto.ParticipantState> participants = roomPresenceRegistry.findRoom(roomId).stream()
+                .map(state -> new RoomEventDto.ParticipantState(state.getUserId(), state.getStatus()))
+                .collect(Collectors.toList());
+        return new RoomEventDto.RoomEvent(RoomEventDto.Type.SNAPSHOT, roomId, sessions, participants, LocalDateTime.now());
+    }
+}
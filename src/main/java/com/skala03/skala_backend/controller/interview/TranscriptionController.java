@@ -1,17 +1,22 @@
 package com.skala03.skala_backend.controller.interview;
 
 import com.skala03.skala_backend.dto.interview.TranscriptionDto;
+import com.skala03.skala_backend.service.interview.AudioSpoolService;
 import com.skala03.skala_backend.service.interview.TranscriptionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -28,8 +33,25 @@ public class TranscriptionController {
             @RequestParam("file") MultipartFile file,
             @RequestParam(value = "speakerCount", required = false) Integer speakerCount) {
 
+        return start(() -> transcriptionService.startTranscription(file, speakerCount));
+    }
+
+    @PostMapping(value = "/upload-audio/stream",
+            consumes = {MediaType.APPLICATION_OCTET_STREAM_VALUE, "audio/*"})
+    @Operation(summary = "음성 파일 스트리밍 업로드",
+            description = "요청 본문(음성 바이너리)을 그대로 받아 STT+화자 분리를 시작합니다. 대용량 파일은 이 API를 사용하세요.")
+    public ResponseEntity<TranscriptionDto.StartResponse> uploadAudioStream(
+            HttpServletRequest request,
+            @RequestParam(value = "filename", required = false) String filename,
+            @RequestParam(value = "speakerCount", required = false) Integer speakerCount) {
+
+        return start(() -> transcriptionService.startTranscription(
+                request.getInputStream(), filename, request.getContentLengthLong(), speakerCount));
+    }
+
+    private ResponseEntity<TranscriptionDto.StartResponse> start(TranscriptionStarter starter) {
         try {
-            String transcriptionId = transcriptionService.startTranscription(file, speakerCount);
+            String transcriptionId = starter.start();
 
             TranscriptionDto.StartResponse response = TranscriptionDto.StartResponse.builder()
                     .transcriptionId(transcriptionId)
@@ -39,6 +61,16 @@ public class TranscriptionController {
 
             return ResponseEntity.ok(response);
 
+        } catch (AudioSpoolService.AudioTooLargeException e) {
+            log.warn("업로드 파일 크기 초과: {}", e.getMessage());
+
+            TranscriptionDto.StartResponse errorResponse = TranscriptionDto.StartResponse.builder()
+                    .status("failed")
+                    .message(e.getMessage())
+                    .build();
+
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+
         } catch (IOException e) {
             log.error("파일 업로드 실패", e);
 
@@ -48,58 +80,43 @@ public class TranscriptionController {
                     .build();
 
             return ResponseEntity.badRequest().body(errorResponse);
+
+        } catch (RejectedExecutionException e) {
+            log.warn("전사 작업 큐 포화: {}", e.getMessage());
+
+            TranscriptionDto.StartResponse errorResponse = TranscriptionDto.StartResponse.builder()
+                    .status("rejected")
+                    .message("현재 처리 중인 전사 작업이 많습니다. 잠시 후 다시 시도해주세요.")
+                    .build();
+
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header("Retry-After", "30")
+                    .body(errorResponse);
         }
     }
 
+    @FunctionalInterface
+    private interface TranscriptionStarter {
+        String start() throws IOException;
+    }
+
     @GetMapping("/{transcriptionId}")
     @Operation(summary = "전사 상태 및 결과 조회", description = "transcription ID로 전사 상태를 확인하고, 완료시 결과를 반환합니다.")
     public ResponseEntity<TranscriptionDto.StatusResponse> getTranscription(
             @PathVariable String transcriptionId) {
 
-        String status = transcriptionService.getTranscriptionStatus(transcriptionId);
-
-        if (status == null) {
-            return ResponseEntity.notFound().build();
-        }
+        return transcriptionService.findJob(transcriptionId)
+                .map(job -> ResponseEntity.ok(TranscriptionDto.StatusResponse.from(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        TranscriptionDto.StatusResponse.StatusResponseBuilder responseBuilder =
-                TranscriptionDto.StatusResponse.builder()
-                        .transcriptionId(transcriptionId)
-                        .status(status);
-
-        switch (status) {
-            case "processing" -> {
-                responseBuilder.message("전사 작업이 진행 중입니다.");
-            }
-            case "completed" -> {
-                var result = transcriptionService.getTranscriptionResult(transcriptionId);
-
-                // utterances만 추출해서 간단한 구조로 변환
-                List<TranscriptionDto.Utterance> utterances = null;
-                if (result != null && result.getResults() != null && result.getResults().getUtterances() != null) {
-                    utterances = result.getResults().getUtterances().stream()
-                            .map(vitoUtterance -> TranscriptionDto.Utterance.builder()
-                                    .spk(vitoUtterance.getSpk())
-                                    .msg(vitoUtterance.getMsg())
-                                    .build())
-                            .collect(java.util.stream.Collectors.toList());
-                }
-
-                responseBuilder
-                        .message("전사 작업이 완료되었습니다.")
-                        .result(utterances);
-            }
-            case "failed" -> {
-                String errorMessage = transcriptionService.getTranscriptionError(transcriptionId);
-                responseBuilder
-                        .message("전사 작업이 실패했습니다.")
-                        .error(errorMessage != null ? errorMessage : "알 수 없는 오류가 발생했습니다.");
-            }
-            default -> {
-                responseBuilder.message("알 수 없는 상태입니다.");
-            }
-        }
+    @GetMapping(value = "/{transcriptionId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "전사 상태 구독 (SSE)",
+            description = "현재 상태를 즉시 보내고, 완료/실패 시 최종 결과(status 이벤트)를 한 번 보낸 뒤 연결을 종료합니다. 폴링 대신 사용하세요.")
+    public ResponseEntity<SseEmitter> subscribeTranscription(@PathVariable String transcriptionId) {
 
-        return ResponseEntity.ok(responseBuilder.build());
+        return transcriptionService.subscribe(transcriptionId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
-}
\ No newline at end of file
+}
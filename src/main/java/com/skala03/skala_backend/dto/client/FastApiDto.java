@@ -1,11 +1,29 @@
 package com.skala03.skala_backend.dto.client;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -59,7 +77,9 @@ public class FastApiDto {
         @JsonProperty("job_role_name")
         private String jobRoleName;
 
+        // 지원자 1명의 형식 오류가 응답 전체 실패로 번지지 않도록 원소별로 바인딩
         @JsonProperty("evaluation_results")
+        @JsonDeserialize(contentUsing = ApplicantResultDeserializer.class)
         private List<ApplicantResult> evaluationResults;
 
         @JsonProperty("total_processed")
@@ -84,6 +104,7 @@ public class FastApiDto {
     @NoArgsConstructor
     @AllArgsConstructor
     public static class ApplicantResult {
+        @NotBlank
         @JsonProperty("applicant_id")
         private String applicantId;
 
@@ -96,7 +117,134 @@ public class FastApiDto {
         @JsonProperty("pdf_s3_path")
         private String pdfS3Path;
 
+        @Valid
         @JsonProperty("evaluation_json")
-        private Map<String, Object> evaluationJson;
+        private EvaluationJson evaluationJson;
+
+        // 바인딩 실패 사유 (ApplicantResultDeserializer에서 설정, 저장 시 이 지원자만 실패 처리)
+        @JsonIgnore
+        private String bindingError;
+
+        public boolean hasBindingError() {
+            return bindingError != null;
+        }
+    }
+
+    /**
+     * 지원자 결과 1건 바인딩 - 타입이 맞지 않는 값이 있으면 예외 대신 bindingError를 담은 결과를 반환
+     * (일괄 응답의 evaluation_results 원소, 스트리밍 파서의 원소 모두 여기서 바인딩)
+     */
+    public static class ApplicantResultDeserializer extends JsonDeserializer<ApplicantResult> {
+
+        @Override
+        public ApplicantResult deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return bind(p.getCodec(), p.readValueAsTree());
+        }
+
+        public static ApplicantResult bind(ObjectCodec codec, JsonNode node) {
+            try {
+                return codec.treeToValue(node, ApplicantResult.class);
+            } catch (JsonProcessingException e) {
+                JsonNode applicantId = node.path("applicant_id");
+                return ApplicantResult.builder()
+                        .applicantId(applicantId.isValueNode() && !applicantId.isNull() ? applicantId.asText() : null)
+                        .bindingError("지원자 결과 형식 오류: " + e.getOriginalMessage())
+                        .build();
+            }
+        }
+    }
+
+    /**
+     * 자유 형식 텍스트 필드 - 문자열이 아니어도 실패하지 않고 텍스트로 변환
+     * (배열은 원소를 줄바꿈으로 연결, 객체는 JSON 문자열)
+     */
+    public static class LenientTextDeserializer extends JsonDeserializer<String> {
+
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return toText(p.readValueAsTree());
+        }
+
+        static String toText(JsonNode node) {
+            if (node == null || node.isNull() || node.isMissingNode()) {
+                return null;
+            }
+            if (node.isValueNode()) {
+                return node.asText();
+            }
+            if (node.isArray()) {
+                List<String> lines = new ArrayList<>();
+                for (JsonNode element : node) {
+                    String line = toText(element);
+                    if (line != null) {
+                        lines.add(line);
+                    }
+                }
+                return String.join("\n", lines);
+            }
+            return node.toString();
+        }
+    }
+
+    // 지원자 평가 결과 (evaluation_json)
+    // 저장에 쓰는 필드만 바인딩하고 나머지는 버림 (지원자별 원본 JSON 트리를 메모리에 들고 있지 않음)
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EvaluationJson {
+        @Valid
+        @JsonProperty("evaluation_summary")
+        private EvaluationSummary evaluationSummary;
+
+        @JsonProperty("interview_summary")
+        @JsonDeserialize(using = LenientTextDeserializer.class)
+        private String interviewSummary;
+
+        @JsonProperty("next_questions")
+        @JsonDeserialize(using = LenientTextDeserializer.class)
+        private String nextQuestions;
+
+        // 키워드명 → 키워드 평가 (응답 순서 유지)
+        @JsonProperty("detailed_evaluation")
+        private LinkedHashMap<String, @Valid @NotNull KeywordEvaluation> detailedEvaluation;
+
+        // AI 평가 실패 시 오류 내용 (형식은 문자열/객체 등 FastAPI 버전마다 다름)
+        // 키가 있으면 값이 null이어도 NullNode로 바인딩되어 오류로 취급, 키가 없을 때만 null
+        private JsonNode error;
+
+        public boolean hasError() {
+            return error != null;
+        }
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class EvaluationSummary {
+        @PositiveOrZero
+        @JsonProperty("total_score")
+        private Float totalScore;
+    }
+
+    // 키워드별 평가
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class KeywordEvaluation {
+        @NotNull
+        @Min(1)
+        @Max(5)
+        @JsonProperty("final_score")
+        private Integer finalScore;
+
+        @JsonProperty("score_rationale")
+        @JsonDeserialize(using = LenientTextDeserializer.class)
+        private String scoreRationale;
     }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.skala03.skala_backend.dto.interview;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.skala03.skala_backend.entity.interview.PipelineJob;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+public class PipelineJobDto {
+
+    @Data
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StatusResponse {
+        private String jobId;
+        private Integer sessionId;
+        private String status;          // QUEUED / RUNNING / SUCCEEDED / FAILED
+        private int attempts;
+        private int maxAttempts;
+        private String message;         // 완료 메시지 또는 마지막 오류
+        private Integer successfulCount;
+        private Integer failedCount;
+        private LocalDateTime nextAttemptAt; // 재시도 대기 중일 때만
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime finishedAt;
+
+        public static StatusResponse from(PipelineJob job) {
+            return StatusResponse.builder()
+                    .jobId(job.getJobId())
+                    .sessionId(job.getSessionId())
+                    .status(job.getStatus().name())
+                    .attempts(job.getAttempts())
+                    .maxAttempts(job.getMaxAttempts())
+                    .message(job.getMessage())
+                    .successfulCount(job.getSuccessfulCount())
+                    .failedCount(job.getFailedCount())
+                    .nextAttemptAt(job.getStatus() == PipelineJob.Status.QUEUED ? job.getNextAttemptAt() : null)
+                    .createdAt(job.getCreatedAt())
+                    .updatedAt(job.getUpdatedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
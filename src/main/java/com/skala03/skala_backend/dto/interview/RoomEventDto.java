@@ -0,0 +1,50 @@
+package com.skala03.skala_backend.dto.interview;
+
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import com.skala03.skala_backend.entity.interview.Session;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 면접방 채널(/topic/rooms/{roomId}) 메시지
+ */
+public class RoomEventDto {
+
+    public enum Type {
+        // 구독 시 현재 전체 상태
+        SNAPSHOT,
+        // 마지막 전송 이후 바뀐 항목만
+        DIFF
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomEvent {
+        private Type type;
+        private String roomId;
+        private List<SessionState> sessions;
+        private List<ParticipantState> participants;
+        private LocalDateTime sentAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionState {
+        private Integer sessionId;
+        private Session.SessionStatus sessionStatus;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParticipantState {
+        private String userId;
+        private RoomParticipant.ParticipantStatus status;
+    }
+}
@@ -5,8 +5,10 @@
 // TranscriptionDto.java - 요청/응답 DTO
 package com.skala03.skala_backend.dto.interview;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 
@@ -30,10 +32,39 @@ public class TranscriptionDto {
         private String message;
         private List<Utterance> result; // utterances 리스트만 직접 포함
         private String error; // 실패시에만 포함
+
+        public static StatusResponse from(TranscriptionJobRecord job) {
+            StatusResponseBuilder responseBuilder = StatusResponse.builder()
+                    .transcriptionId(job.getTranscriptionId())
+                    .status(job.getStatus());
+
+            switch (job.getStatus()) {
+                case TranscriptionJobRecord.STATUS_PROCESSING -> {
+                    responseBuilder.message("전사 작업이 진행 중입니다.");
+                }
+                case TranscriptionJobRecord.STATUS_COMPLETED -> {
+                    responseBuilder
+                            .message("전사 작업이 완료되었습니다.")
+                            .result(job.getUtterances());
+                }
+                case TranscriptionJobRecord.STATUS_FAILED -> {
+                    String errorMessage = job.getErrorMessage();
+                    responseBuilder
+                            .message("전사 작업이 실패했습니다.")
+                            .error(errorMessage != null ? errorMessage : "알 수 없는 오류가 발생했습니다.");
+                }
+                default -> {
+                    responseBuilder.message("알 수 없는 상태입니다.");
+                }
+            }
+            return responseBuilder.build();
+        }
     }
 
     @Data
     @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
     public static class Utterance {
         private Integer spk;  // 화자 ID (0부터 시작)
         private String msg;   // 발화 내용
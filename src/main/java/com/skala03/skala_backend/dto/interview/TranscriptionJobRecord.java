@@ -0,0 +1,67 @@
+package com.skala03.skala_backend.dto.interview;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 전사 작업 1건의 상태/결과 (작업 저장소에 보관되는 단일 레코드)
+ * Vito 원본 응답 대신 조회 API에 필요한 utterance(spk, msg)만 유지한다.
+ */
+@Value
+@Builder(toBuilder = true)
+public class TranscriptionJobRecord {
+
+    public static final String STATUS_PROCESSING = "processing";
+    public static final String STATUS_COMPLETED = "completed";
+    public static final String STATUS_FAILED = "failed";
+
+    String transcriptionId;
+    String contentKey;                           // 음성 SHA-256 + 화자 수 (중복 업로드 판별)
+    String status;
+    List<TranscriptionDto.Utterance> utterances; // 완료시에만 존재
+    String errorMessage;                         // 실패시에만 존재
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    public static TranscriptionJobRecord processing(String transcriptionId, String contentKey) {
+        LocalDateTime now = LocalDateTime.now();
+        return TranscriptionJobRecord.builder()
+                .transcriptionId(transcriptionId)
+                .contentKey(contentKey)
+                .status(STATUS_PROCESSING)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public TranscriptionJobRecord completed(List<TranscriptionDto.Utterance> utterances) {
+        return toBuilder()
+                .status(STATUS_COMPLETED)
+                .utterances(utterances != null ? List.copyOf(utterances) : List.of())
+                .errorMessage(null)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public TranscriptionJobRecord failed(String errorMessage) {
+        return toBuilder()
+                .status(STATUS_FAILED)
+                .errorMessage(errorMessage)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 같은 음성의 재업로드에 그대로 연결할 수 있는 작업인지 (진행 중이거나 완료)
+     */
+    public boolean isReusable() {
+        return STATUS_PROCESSING.equals(status) || STATUS_COMPLETED.equals(status);
+    }
+
+    public boolean isTerminal() {
+        return STATUS_COMPLETED.equals(status) || STATUS_FAILED.equals(status);
+    }
+}
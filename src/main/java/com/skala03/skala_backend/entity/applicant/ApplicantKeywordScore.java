@@ -1,16 +1,20 @@
 package com.skala03.skala_backend.entity.applicant;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.Persistable;
 
 // ApplicantKeywordScore
+// 복합키를 직접 지정하는 엔티티라 save() 시 merge(SELECT 후 INSERT)가 일어나지 않도록 Persistable로 신규 여부를 알려줌
+// → 신규 점수는 persist로 처리되어 JDBC 배치 INSERT로 묶임
 @Getter
 @Setter
 @Entity
 @Table(name = "applicant_keyword_scores")
 @IdClass(ApplicantKeywordScoreId.class)
-public class ApplicantKeywordScore {
+public class ApplicantKeywordScore implements Persistable<ApplicantKeywordScoreId> {
     @Id
     @Column(name = "applicant_id")
     private String applicantId;
@@ -25,8 +29,24 @@ public class ApplicantKeywordScore {
     @Column(name = "score_comment")
     private String scoreComment;
 
-
-
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public ApplicantKeywordScoreId getId() {
+        return new ApplicantKeywordScoreId(applicantId, keywordId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
 }
-
-
@@ -0,0 +1,81 @@
+package com.skala03.skala_backend.entity.interview;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 면접 전체 파이프라인(process-full-pipeline) 비동기 작업
+ * 여러 인스턴스가 같은 테이블에서 작업을 가져가며, lease(leaseOwner + leaseExpiresAt)를 가진 인스턴스만 실행한다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "pipeline_jobs",
+        indexes = {
+                @Index(name = "idx_pipeline_jobs_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_pipeline_jobs_status_lease", columnList = "status, lease_expires_at"),
+                @Index(name = "idx_pipeline_jobs_session", columnList = "session_id")
+        })
+public class PipelineJob {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Column(name = "session_id", nullable = false)
+    private Integer sessionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.QUEUED;
+
+    // ProcessingRequest JSON
+    @Column(name = "request_json", nullable = false, columnDefinition = "LONGTEXT")
+    private String requestJson;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "max_attempts", nullable = false)
+    private int maxAttempts;
+
+    // QUEUED 상태에서 이 시각 이후에 실행 가능 (재시도 backoff)
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 실행 중인 인스턴스 ID
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    // 이 시각까지 갱신되지 않으면 다른 인스턴스가 다시 가져감
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "message", columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "successful_count")
+    private Integer successfulCount;
+
+    @Column(name = "failed_count")
+    private Integer failedCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+}
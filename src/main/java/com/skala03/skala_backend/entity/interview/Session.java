@@ -1,11 +1,18 @@
 package com.skala03.skala_backend.entity.interview;
 
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.OptimisticLock;
 
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
 @Getter
 @Setter
 @Entity
@@ -44,14 +51,88 @@ public class Session {
     @Column(name = "applicants_user_id", length = 100)
     private String applicantsUserId;
 
+    // 면접관 목록 (session_interviewers, user_id 인덱스로 "내 세션" 조회)
+    // interviewers_user_id를 설정하면 함께 갱신됨 (이중 기록)
+    // 쉼표 구분 컬럼의 사본이므로 version을 올리지 않음 (백필이 상태 전이와 충돌하지 않도록)
+    @ElementCollection
+    @OptimisticLock(excluded = true)
+    @CollectionTable(name = "session_interviewers",
+            joinColumns = @JoinColumn(name = "session_id"),
+            indexes = @Index(name = "idx_session_interviewers_user", columnList = "user_id, session_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "user_id", nullable = false)
+    @BatchSize(size = 50)
+    @Setter(AccessLevel.NONE)
+    private List<String> interviewerIds = new ArrayList<>();
+
+    // 지원자 목록 (session_applicants)
+    @ElementCollection
+    @OptimisticLock(excluded = true)
+    @CollectionTable(name = "session_applicants",
+            joinColumns = @JoinColumn(name = "session_id"),
+            indexes = @Index(name = "idx_session_applicants_user", columnList = "user_id, session_id"))
+    @OrderColumn(name = "position")
+    @Column(name = "user_id", nullable = false)
+    @BatchSize(size = 50)
+    @Setter(AccessLevel.NONE)
+    private List<String> applicantIds = new ArrayList<>();
+
     @Column(name = "raw_data_path", columnDefinition = "TEXT")
     private String rawDataPath;
 
+    // 낙관적 잠금 (상태 전이 UPDATE에서도 함께 증가, 기존 행/네이티브 INSERT는 DB 기본값 0)
+    // 초기값을 두지 않음 - null이어야 save()가 새 엔티티로 보고 persist (첫 값 0은 Hibernate가 설정)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;
+
     // InterviewRoom과의 연관관계
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "room_id", insertable = false, updatable = false)
     private InterviewRoom room;
 
+    public void setInterviewersUserId(String interviewersUserId) {
+        this.interviewersUserId = interviewersUserId;
+        replaceMembers(interviewerIds, parseUserIds(interviewersUserId));
+    }
+
+    public void setApplicantsUserId(String applicantsUserId) {
+        this.applicantsUserId = applicantsUserId;
+        replaceMembers(applicantIds, parseUserIds(applicantsUserId));
+    }
+
+    /**
+     * 쉼표 구분 컬럼 기준으로 면접관/지원자 목록을 맞춤 (DB에 직접 입력된 세션 백필용)
+     * @return 변경이 있었는지
+     */
+    public boolean syncMembers() {
+        boolean interviewersChanged = replaceMembers(interviewerIds, parseUserIds(interviewersUserId));
+        boolean applicantsChanged = replaceMembers(applicantIds, parseUserIds(applicantsUserId));
+        return interviewersChanged || applicantsChanged;
+    }
+
+    // "sk-01,sk-02,sk-03" → [sk-01, sk-02, sk-03] (공백/빈 값/중복 제거)
+    private static List<String> parseUserIds(String userIds) {
+        if (userIds == null || userIds.trim().isEmpty()) {
+            return List.of();
+        }
+        LinkedHashSet<String> ids = new LinkedHashSet<>();
+        Arrays.stream(userIds.split(","))
+                .map(String::trim)
+                .filter(id -> !id.isEmpty())
+                .forEach(ids::add);
+        return new ArrayList<>(ids);
+    }
+
+    private static boolean replaceMembers(List<String> members, List<String> ids) {
+        if (members.equals(ids)) {
+            return false;
+        }
+        members.clear();
+        members.addAll(ids);
+        return true;
+    }
+
     // SessionStatus enum
     public enum SessionStatus {
         SCHEDULED,
@@ -0,0 +1,45 @@
+package com.skala03.skala_backend.entity.interview;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "transcription_jobs",
+        indexes = {
+                @Index(name = "idx_transcription_jobs_status_updated", columnList = "status, updated_at"),
+                @Index(name = "idx_transcription_jobs_content_key", columnList = "content_key")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class TranscriptionJob {
+
+    @Id
+    @Column(name = "transcription_id", length = 36)
+    private String transcriptionId;
+
+    // 음성 SHA-256 + 화자 수
+    @Column(name = "content_key", length = 80)
+    private String contentKey;
+
+    // processing / completed / failed
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    // utterance(spk, msg) 리스트 JSON
+    @Column(name = "result_json", columnDefinition = "LONGTEXT")
+    private String resultJson;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
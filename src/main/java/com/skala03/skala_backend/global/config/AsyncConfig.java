@@ -1,10 +1,15 @@
 package com.skala03.skala_backend.global.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import java.util.concurrent.Executor;
+
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 비동기 처리 설정
@@ -14,16 +19,60 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 전사 작업 전용 스레드 풀 (애플리케이션 전체에서 하나만 사용)
+     * - 큐가 가득 차면 TaskRejectedException 발생 → 컨트롤러에서 429 응답
+     * - 종료 시 진행 중/대기 중 작업을 awaitTerminationSeconds 동안 처리 후 종료
+     */
     @Bean(name = "transcriptionExecutor")
-    public Executor transcriptionExecutor() {
+    public ThreadPoolTaskExecutor transcriptionExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${transcription.executor.core-pool-size:5}") int corePoolSize,
+            @Value("${transcription.executor.max-pool-size:10}") int maxPoolSize,
+            @Value("${transcription.executor.queue-capacity:25}") int queueCapacity,
+            @Value("${transcription.executor.await-termination-seconds:60}") int awaitTerminationSeconds) {
+
+        Counter rejectedCounter = Counter.builder("transcription.executor.rejected")
+                .description("큐 포화로 거절된 전사 작업 수")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);           // 기본 스레드 수
+        executor.setMaxPoolSize(maxPoolSize);             // 최대 스레드 수
+        executor.setQueueCapacity(queueCapacity);         // 큐 용량 (back-pressure)
+        executor.setThreadNamePrefix("Transcription-");   // 스레드 이름 접두사
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejectedCounter.increment();
+            throw new RejectedExecutionException("전사 작업 큐가 가득 찼습니다. (queueCapacity=" + queueCapacity + ")");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);        // 종료시 작업 완료 대기
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds); // 최대 대기 시간
+        executor.initialize();
+
+        Gauge.builder("transcription.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("실행 중인 전사 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("transcription.executor.queued", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("대기 중인 전사 작업 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    /**
+     * 면접 파이프라인 작업 시작용 스레드 풀
+     * - FastAPI 응답 대기는 논블로킹이므로 스레드는 작업 시작 단계에서만 사용
+     * - PipelineJobWorker가 빈 슬롯(maxConcurrentJobs)만큼만 작업을 가져오므로 큐 크기도 그 이하로 유지됨
+     * - 종료 시 실행 중인 작업은 lease 만료 후 다른 인스턴스에서 재시도됨
+     */
+    @Bean(name = "pipelineExecutor")
+    public ThreadPoolTaskExecutor pipelineExecutor(PipelineJobProperties pipelineJobProperties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);           // 기본 스레드 수
-        executor.setMaxPoolSize(10);           // 최대 스레드 수
-        executor.setQueueCapacity(25);         // 큐 용량
-        executor.setThreadNamePrefix("Transcription-"); // 스레드 이름 접두사
-        executor.setWaitForTasksToCompleteOnShutdown(true); // 종료시 작업 완료 대기
-        executor.setAwaitTerminationSeconds(60); // 최대 대기 시간
+        executor.setCorePoolSize(pipelineJobProperties.getWorkerThreads());
+        executor.setMaxPoolSize(pipelineJobProperties.getWorkerThreads());
+        executor.setQueueCapacity(pipelineJobProperties.getMaxConcurrentJobs());
+        executor.setThreadNamePrefix("Pipeline-");
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * FastAPI 면접 파이프라인 호출 설정
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "fastapi")
+public class FastApiProperties {
+
+    private Pipeline pipeline = new Pipeline();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Health health = new Health();
+    private Operations operations = new Operations();
+
+    @Data
+    public static class Pipeline {
+        // 응답을 스트리밍으로 받아 지원자 결과를 파싱 즉시 저장 (false면 전체 응답 수신 후 일괄 저장)
+        private boolean streaming = true;
+        private FanOut fanOut = new FanOut();
+    }
+
+    /**
+     * 지원자별 분할 호출
+     * 세션 전체 STT는 그대로 보내고 평가 대상 지원자만 1명씩 나눠 동시에 호출한다.
+     * 호출은 fastapi-pool 커넥션을 나눠 쓰므로 maxConcurrency × pipeline.jobs.max-concurrent-jobs가 풀 크기를 크게 넘지 않게 설정
+     */
+    @Data
+    public static class FanOut {
+        private boolean enabled = false;
+        // 세션 1건당 동시 호출 수
+        private int maxConcurrency = 4;
+        // 지원자별 최대 시도 횟수 (실패한 지원자만 재시도)
+        private int maxAttempts = 2;
+        private Duration retryBackoff = Duration.ofSeconds(5);
+    }
+
+    /**
+     * FastAPI 서킷 브레이커 (FastApiCircuitBreaker)
+     */
+    @Data
+    public static class CircuitBreaker {
+        // 연속 실패가 이 횟수에 도달하면 OPEN
+        private int failureThreshold = 5;
+        // OPEN 유지 시간 (지나면 HALF_OPEN으로 시험 호출 허용)
+        private Duration openDuration = Duration.ofSeconds(30);
+        // HALF_OPEN에서 동시에 허용할 시험 호출 수
+        private int halfOpenMaxCalls = 1;
+    }
+
+    /**
+     * 백그라운드 헬스 프로브 (/ai/health2)
+     * isHealthy()는 프로브 결과를 캐시해서 바로 반환한다. (타임아웃은 operations.health)
+     */
+    @Data
+    public static class Health {
+        private Duration probeInterval = Duration.ofSeconds(10);
+    }
+
+    /**
+     * 호출 종류별 정책 (FastApiCallPolicies)
+     */
+    @Data
+    public static class Operations {
+        private OperationPolicy keywordCriteria = new OperationPolicy(Duration.ofMinutes(2), 2, Duration.ofSeconds(3), 0.2);
+        private OperationPolicy fullPipeline = new OperationPolicy(Duration.ofMinutes(5), 1, Duration.ofSeconds(10), 0.1);
+        private OperationPolicy health = new OperationPolicy(Duration.ofSeconds(3), 0, Duration.ofSeconds(1), 0.0);
+    }
+
+    @Data
+    public static class OperationPolicy {
+        // 시도 1회당 타임아웃
+        private Duration timeout;
+        private int maxRetries;
+        // 첫 재시도 대기 (이후 지수 증가)
+        private Duration backoff;
+        // 재시도 예산: 호출 대비 허용 재시도 비율 (0.2면 호출 5건당 재시도 1회)
+        private double retryBudget;
+        // 재시도 예산 최대 적립량 (트래픽이 적을 때도 이만큼은 재시도 가능)
+        private int retryBudgetBurst = 10;
+
+        public OperationPolicy() {
+        }
+
+        public OperationPolicy(Duration timeout, int maxRetries, Duration backoff, double retryBudget) {
+            this.timeout = timeout;
+            this.maxRetries = maxRetries;
+            this.backoff = backoff;
+            this.retryBudget = retryBudget;
+        }
+    }
+}
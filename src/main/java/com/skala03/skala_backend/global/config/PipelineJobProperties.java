@@ -0,0 +1,30 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 면접 파이프라인 작업 큐 설정
+ * 인스턴스마다 maxConcurrentJobs개까지 동시에 실행하고, 실패 시 backoffBase × 2^(시도-1) 후 재시도한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "pipeline.jobs")
+public class PipelineJobProperties {
+    // 인스턴스당 동시 실행 작업 수 (FastAPI 응답 대기는 스레드를 점유하지 않으므로 fastapi-pool 커넥션 수 기준)
+    private int maxConcurrentJobs = 30;
+    // 작업 시작(요청 역직렬화, 평가기준 조회)용 스레드 수
+    private int workerThreads = 4;
+    // 대기 작업 확인 주기
+    private Duration pollInterval = Duration.ofSeconds(2);
+    // lease 유효 시간 (갱신이 끊기면 다른 인스턴스가 가져감)
+    private Duration leaseTtl = Duration.ofMinutes(2);
+    // lease 연장 주기 (leaseTtl보다 충분히 짧게)
+    private Duration leaseRenewInterval = Duration.ofSeconds(40);
+    private int maxAttempts = 3;
+    private Duration backoffBase = Duration.ofSeconds(30);
+    private Duration backoffMax = Duration.ofMinutes(10);
+}
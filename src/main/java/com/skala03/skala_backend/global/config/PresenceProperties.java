@@ -0,0 +1,25 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 면접방 참가자 상태(presence) 설정
+ * 상태는 메모리에서 관리하고 flushInterval마다 room_participants에 모아서 기록한다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "presence")
+public class PresenceProperties {
+    // 이 시간 동안 heartbeat/상태 요청이 없으면 OFFLINE 처리
+    private Duration ttl = Duration.ofSeconds(90);
+    // 만료 확인 단위 (타이머 휠 한 칸)
+    private Duration tick = Duration.ofSeconds(1);
+    // 변경된 상태를 DB에 기록하는 주기
+    private Duration flushInterval = Duration.ofSeconds(2);
+    // 메모리에 없는 참가자 요청 시 방 정보를 DB에서 다시 읽는 최소 간격
+    private Duration missReloadInterval = Duration.ofSeconds(30);
+}
@@ -1,19 +1,89 @@
 package com.skala03.skala_backend.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import java.time.Duration;
+
+/**
+ * Vito API 호출용 RestTemplate 설정
+ * - 인증/업로드가 keep-alive 커넥션 풀 하나를 공유 (요청마다 새 연결 + TLS 핸드셰이크 하지 않음)
+ * - 호출 종류별 read 타임아웃 분리
+ * - connect 타임아웃은 커넥션 풀(ConnectionConfig)에 설정: 인증/업로드가 같은 커넥션을 재사용하므로
+ *   둘 중 긴 값을 풀 전체에 적용
+ * - 풀 상태는 httpcomponents.httpclient.pool.* 메트릭으로 노출 (client=vito)
+ */
 @Configuration
+@RequiredArgsConstructor
 public class RestTemplateConfig {
 
+    private final VitoHttpProperties httpProperties;
+    private final VitoApiProperties vitoApiProperties;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager vitoConnectionManager(MeterRegistry meterRegistry) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpProperties.getMaxTotal())
+                .setMaxConnPerRoute(httpProperties.getMaxPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(poolConnectTimeout()))
+                        .setTimeToLive(TimeValue.of(httpProperties.getConnectionTtl()))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "vito").bindTo(meterRegistry);
+        return connectionManager;
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(30000); // 연결 타임아웃 30초
-        factory.setReadTimeout(120000);   // 읽기 타임아웃 2분
+    public RestTemplate vitoAuthRestTemplate(PoolingHttpClientConnectionManager vitoConnectionManager) {
+        return createRestTemplate(vitoConnectionManager, httpProperties.getAuth());
+    }
+
+    @Bean
+    public RestTemplate vitoUploadRestTemplate(PoolingHttpClientConnectionManager vitoConnectionManager) {
+        return createRestTemplate(vitoConnectionManager, httpProperties.getUpload());
+    }
+
+    private RestTemplate createRestTemplate(PoolingHttpClientConnectionManager connectionManager,
+                                            VitoHttpProperties.Timeouts timeouts) {
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setConnectionManagerShared(true) // 풀은 vitoConnectionManager 빈이 관리
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionKeepAlive(TimeValue.of(httpProperties.getKeepAlive()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(httpProperties.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+        factory.setConnectionRequestTimeout(httpProperties.getConnectionRequestTimeout());
+        factory.setReadTimeout(timeouts.getReadTimeout());
+
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(vitoApiProperties.getBaseUrl()));
+        return restTemplate;
+    }
 
-        return new RestTemplate(factory);
+    private Duration poolConnectTimeout() {
+        Duration auth = httpProperties.getAuth().getConnectTimeout();
+        Duration upload = httpProperties.getUpload().getConnectTimeout();
+        return auth.compareTo(upload) >= 0 ? auth : upload;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.skala03.skala_backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 주기 작업(@Scheduled) 설정
+ * @EnableScheduling: 캐시/작업 저장소 정리 등 백그라운드 주기 작업 활성화
+ * taskScheduler: STOMP 브로커가 자체 TaskScheduler(messageBrokerTaskScheduler)를 등록하므로,
+ *                @Scheduled 작업이 브로커 스케줄러를 같이 쓰지 않도록 이름으로 구분해 따로 둔다.
+ *                DB 정리/백필/헬스 프로브 등 느린 작업이 서로 줄 서지 않도록 기본 4 스레드.
+ * realtimeScheduler: presence 만료/기록, 방 이벤트 전송, 작업 lease 갱신처럼 주기가 밀리면
+ *                    안 되는 작업 전용 (느린 작업이 taskScheduler를 모두 잡고 있어도 영향 없음)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    public static final String REALTIME_SCHEDULER = "realtimeScheduler";
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${spring.task.scheduling.pool.size:4}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    @Bean(name = REALTIME_SCHEDULER)
+    public ThreadPoolTaskScheduler realtimeScheduler(@Value("${scheduling.realtime.pool.size:2}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("realtime-");
+        return scheduler;
+    }
+}
@@ -45,6 +45,8 @@ public class SecurityConfig {
                         .requestMatchers("/api/admin/**").permitAll()
                         .requestMatchers("/api/debug/**").permitAll()
                         .requestMatchers("/api/interviewers/**").permitAll()
+                        // 면접방 실시간 상태 채널 (STOMP)
+                        .requestMatchers("/ws/**").permitAll()
                         // Swagger 관련 경로
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/api-docs/**").permitAll()
@@ -0,0 +1,26 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 긴 녹음 분할 전사 설정
+ * minDuration 이상인 비압축 WAV는 겹치는 구간으로 나눠 Vito에 병렬로 요청한 뒤 결과를 이어 붙인다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "transcription.chunking")
+public class TranscriptionChunkingProperties {
+    private boolean enabled = true;
+    // 이 길이 이상인 녹음만 분할
+    private Duration minDuration = Duration.ofMinutes(20);
+    // 구간 길이 (구간 수가 maxChunks를 넘으면 자동으로 늘어남)
+    private Duration chunkDuration = Duration.ofMinutes(10);
+    // 인접 구간이 겹치는 길이 (경계 발화 보존 + 화자 매핑에 사용)
+    private Duration overlap = Duration.ofSeconds(30);
+    // 녹음 1개당 동시에 요청하는 최대 구간 수
+    private int maxChunks = 8;
+}
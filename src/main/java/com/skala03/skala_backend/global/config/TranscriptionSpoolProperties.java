@@ -0,0 +1,24 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 전사용 음성 파일 스풀 설정
+ * 업로드된 음성은 dir 아래에만 저장되며, 작업이 끝나면 즉시 삭제된다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "transcription.spool")
+public class TranscriptionSpoolProperties {
+    // 스풀 디렉토리 (서버 시작 시 남아있는 파일은 정리)
+    private String dir = System.getProperty("java.io.tmpdir") + "/transcription-spool";
+    // 파일 1개 최대 크기
+    private DataSize maxFileSize = DataSize.ofMegabytes(500);
+    // 스풀 디렉토리 전체 사용량 한도 (초과 시 업로드 거절)
+    private DataSize maxTotalSize = DataSize.ofGigabytes(5);
+    // 읽기/쓰기 버퍼 크기
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+}
@@ -0,0 +1,49 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Vito API HTTP 클라이언트 설정
+ * 인증/업로드(RestTemplate)는 하나의 커넥션 풀을 공유하고, 폴링(WebClient)은 별도 풀을 사용한다.
+ * 호출 종류마다 connect/read 타임아웃을 따로 둔다.
+ * (단, 인증/업로드는 커넥션을 공유하므로 connect 타임아웃은 둘 중 긴 값이 풀 전체에 적용된다)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vito.http")
+public class VitoHttpProperties {
+
+    // 커넥션 풀
+    private int maxTotal = 50;
+    private int maxPerRoute = 20;
+    // 풀에서 커넥션을 얻기까지 대기 한도
+    private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+    // 이 시간 동안 쓰이지 않은 커넥션은 정리
+    private Duration idleTimeout = Duration.ofMinutes(1);
+    // 커넥션 최대 수명 (LB 뒤 서버 교체 대응)
+    private Duration connectionTtl = Duration.ofMinutes(5);
+    // 서버가 Keep-Alive 헤더를 주지 않을 때 재사용 기간
+    private Duration keepAlive = Duration.ofSeconds(30);
+
+    private Timeouts auth = new Timeouts(Duration.ofSeconds(5), Duration.ofSeconds(10));
+    private Timeouts upload = new Timeouts(Duration.ofSeconds(10), Duration.ofMinutes(5));
+    private Timeouts poll = new Timeouts(Duration.ofSeconds(5), Duration.ofSeconds(15));
+
+    @Data
+    public static class Timeouts {
+        private Duration connectTimeout;
+        private Duration readTimeout;
+
+        public Timeouts() {
+        }
+
+        public Timeouts(Duration connectTimeout, Duration readTimeout) {
+            this.connectTimeout = connectTimeout;
+            this.readTimeout = readTimeout;
+        }
+    }
+}
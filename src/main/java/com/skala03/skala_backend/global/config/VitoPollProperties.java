@@ -0,0 +1,29 @@
+package com.skala03.skala_backend.global.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Vito 전사 결과 폴링 설정
+ * 폴링 간격은 음성 길이에 비례해 정해지고, 결과가 나오지 않을 때마다 backoffMultiplier만큼 늘어난다.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "vito.poll")
+public class VitoPollProperties {
+    // 첫 폴링까지의 대기 시간 = 음성 길이 × initialDelayRatio
+    private double initialDelayRatio = 0.05;
+    // 기본 폴링 간격 = 음성 길이 × intervalRatio
+    private double intervalRatio = 0.02;
+    private double backoffMultiplier = 1.5;
+    private Duration minInterval = Duration.ofSeconds(3);
+    private Duration maxInterval = Duration.ofSeconds(30);
+    // 전체 대기 한도 = max(minTimeout, 음성 길이 × timeoutRatio)
+    private Duration minTimeout = Duration.ofMinutes(30);
+    private double timeoutRatio = 3.0;
+    private Duration requestTimeout = Duration.ofSeconds(15);
+    private int maxConsecutiveErrors = 10;
+}
@@ -1,8 +1,6 @@
 package com.skala03.skala_backend.global.config;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
-import io.netty.handler.timeout.WriteTimeoutHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,26 +9,37 @@ import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
-import java.time.Duration;
-import java.util.concurrent.TimeUnit;
-
+/**
+ * Vito 결과 폴링용 WebClient 설정
+ * - "vito-pool" 커넥션 풀에서 keep-alive 커넥션 재사용 (reactor.netty.connection.provider.* 메트릭 노출)
+ * - 폴링 응답은 작으므로 짧은 connect/read 타임아웃 사용
+ */
 @Configuration
 @RequiredArgsConstructor
 public class WebClientConfig {
 
     private final VitoApiProperties vitoApiProperties;
+    private final VitoHttpProperties httpProperties;
 
     @Bean
     public WebClient webClient() {
-        // :wrench: HTTP 클라이언트 설정
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 15_000) // 15초 연결 타임아웃
-                .responseTimeout(Duration.ofMinutes(10)) // 10분 응답 타임아웃 (음성 처리용)
-                .doOnConnected(conn ->
-                        conn.addHandlerLast(new ReadTimeoutHandler(10, TimeUnit.MINUTES))
-                                .addHandlerLast(new WriteTimeoutHandler(10, TimeUnit.MINUTES))
-                );
+        // 커넥션 풀 설정
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("vito-pool")
+                .maxConnections(httpProperties.getMaxPerRoute())
+                .maxIdleTime(httpProperties.getIdleTimeout())
+                .maxLifeTime(httpProperties.getConnectionTtl())
+                .pendingAcquireTimeout(httpProperties.getConnectionRequestTimeout())
+                .evictInBackground(httpProperties.getIdleTimeout())
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS,
+                        (int) httpProperties.getPoll().getConnectTimeout().toMillis())
+                .responseTimeout(httpProperties.getPoll().getReadTimeout())
+                .keepAlive(true);
 
         return WebClient.builder()
                 .baseUrl(vitoApiProperties.getBaseUrl())
@@ -40,4 +49,4 @@ public class WebClientConfig {
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(100 * 1024 * 1024)) // 100MB
                 .build();
     }
-}
\ No newline at end of file
+}
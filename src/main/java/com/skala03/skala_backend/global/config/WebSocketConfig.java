@@ -0,0 +1,56 @@
+package com.skala03.skala_backend.global.config;
+
+import com.skala03.skala_backend.service.interview.RoomChannelPresenceTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+
+/**
+ * 면접방 실시간 상태 채널 (STOMP over WebSocket)
+ * - 접속: /ws (CONNECT 헤더 userId, roomId로 참가자 presence 갱신)
+ * - 변경 구독: /topic/rooms/{roomId} (세션/참가자 상태 변경분, 모아서 전송)
+ * - 현재 상태: /app/rooms/{roomId} 구독 시 스냅샷 1회 응답
+ * - heart-beat 10초 (클라이언트 heart-beat가 presence heartbeat를 대신함)
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
+
+    private static final long[] HEARTBEAT = {10000, 10000};
+
+    // presence 갱신 → 방 채널 전송으로 이어지는 빈들이 이 설정에 의존하므로 지연 주입
+    @Lazy
+    @Autowired
+    private RoomChannelPresenceTracker roomChannelPresenceTracker;
+
+    @Lazy
+    @Autowired
+    @Qualifier("messageBrokerTaskScheduler")
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        registry.addEndpoint("/ws")
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        registry.enableSimpleBroker("/topic")
+                .setHeartbeatValue(HEARTBEAT)
+                .setTaskScheduler(messageBrokerTaskScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(roomChannelPresenceTracker);
+    }
+}
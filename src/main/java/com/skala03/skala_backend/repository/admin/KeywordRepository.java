@@ -5,6 +5,8 @@ import com.skala03.skala_backend.entity.admin.Keyword;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface KeywordRepository extends JpaRepository<Keyword, Integer> {
@@ -15,4 +17,11 @@ public interface KeywordRepository extends JpaRepository<Keyword, Integer> {
      */
     Optional<Keyword> findByKeywordName(@Param("keywordName") String keywordName);
 
+    /**
+     * 여러 키워드 이름으로 한 번에 조회 (IN 쿼리)
+     * @param keywordNames 키워드 이름 목록
+     * @return 존재하는 키워드 엔티티 목록
+     */
+    List<Keyword> findByKeywordNameIn(@Param("keywordNames") Collection<String> keywordNames);
+
 }
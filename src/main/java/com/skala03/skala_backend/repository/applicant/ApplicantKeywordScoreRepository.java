@@ -3,13 +3,30 @@ package com.skala03.skala_backend.repository.applicant;
 import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScore;
 import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScoreId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApplicantKeywordScoreRepository extends JpaRepository<ApplicantKeywordScore, ApplicantKeywordScoreId> {
     List<ApplicantKeywordScore> findByApplicantId(String applicantId);
+
+    // 여러 지원자의 점수를 IN 쿼리 한 번으로 조회
+    List<ApplicantKeywordScore> findByApplicantIdIn(Collection<String> applicantIds);
+
+    // 점수 upsert - 같은 (지원자, 키워드) 점수가 이미 있으면 갱신 (재처리 시 중복 방지)
+    @Modifying
+    @Query(value = "INSERT INTO applicant_keyword_scores (applicant_id, keyword_id, applicant_score, score_comment) " +
+            "VALUES (:applicantId, :keywordId, :applicantScore, :scoreComment) " +
+            "ON DUPLICATE KEY UPDATE applicant_score = VALUES(applicant_score), score_comment = VALUES(score_comment)",
+            nativeQuery = true)
+    int upsert(@Param("applicantId") String applicantId,
+               @Param("keywordId") Integer keywordId,
+               @Param("applicantScore") Integer applicantScore,
+               @Param("scoreComment") String scoreComment);
+
     // selected=true인 키워드만 조회
     @Query("""
         SELECT aks FROM ApplicantKeywordScore aks 
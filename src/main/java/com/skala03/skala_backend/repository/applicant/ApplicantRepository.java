@@ -33,11 +33,6 @@ public interface ApplicantRepository extends JpaRepository<Applicant, String> {
     @Query(value = "SELECT COALESCE(MAX(session_id), 0) FROM sessions", nativeQuery = true)
     Integer findMaxSessionIdFromSessions();
 
-    // 세션의 지원자 목록 업데이트
-    @Modifying
-    @Query(value = "UPDATE sessions SET applicants_user_id = :applicantIds WHERE session_id = :sessionId", nativeQuery = true)
-    void updateSessionApplicants(@Param("sessionId") Integer sessionId, @Param("applicantIds") String applicantIds);
-
     // 기존 세션 정보를 완전히 복사하여 새 세션 생성 (session_id와 applicants_user_id만 다름)
     @Modifying
     @Query(value = "INSERT INTO sessions (session_id, room_id, session_name, session_date, session_location, session_time, session_status, interviewers_user_id, applicants_user_id, raw_data_path) " +
@@ -52,10 +47,6 @@ public interface ApplicantRepository extends JpaRepository<Applicant, String> {
             @Param("excludeApplicantIds") List<String> excludeApplicantIds
     );
 
-    @Modifying
-    @Query(value = "INSERT INTO sessions (session_id, room_id, session_name, session_date, session_location, session_time, session_status, interviewers_user_id, applicants_user_id, raw_data_path) VALUES (?1, ?2, ?3, CURDATE(), '서울 본사 8층', NOW(), 'scheduled', ?4, ?5, ?6)", nativeQuery = true)
-    void createNewSession(Integer sessionId, String roomId, String sessionName, String interviewerIds, String applicantIds, String rawDataPath);
-
     @Query(value = "SELECT user_id FROM room_participants WHERE room_id = :roomId ORDER BY participant_role DESC", nativeQuery = true)
     List<String> findUserIdsByRoomId(@Param("roomId") String roomId);
 
@@ -91,11 +82,6 @@ public interface ApplicantRepository extends JpaRepository<Applicant, String> {
     @Query("SELECT a FROM Applicant a JOIN FETCH a.jobRole WHERE a.applicantId = :applicantId")
     Optional<Applicant> findByIdWithJobRole(@Param("applicantId") String applicantId);
 
-    // 세션 삭제 (빈 세션 정리용)
-    @Modifying
-    @Query(value = "DELETE FROM sessions WHERE session_id = :sessionId", nativeQuery = true)
-    void deleteSessionById(@Param("sessionId") Integer sessionId);
-
     // 세션 존재 여부 확인
     @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM sessions WHERE session_id = :sessionId", nativeQuery = true)
     boolean existsSessionById(@Param("sessionId") Integer sessionId);
@@ -0,0 +1,103 @@
+package com.skala03.skala_backend.repository.interview;
+
+import com.skala03.skala_backend.entity.interview.PipelineJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PipelineJobRepository extends JpaRepository<PipelineJob, String> {
+
+    /**
+     * 실행 가능한 작업 ID (대기 중이고 재시도 시각이 지났거나, 실행 중인데 lease가 만료된 작업)
+     */
+    @Query("""
+        SELECT j.jobId FROM PipelineJob j
+        WHERE (j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.QUEUED AND j.nextAttemptAt <= :now)
+           OR (j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING AND j.leaseExpiresAt < :now)
+        ORDER BY j.nextAttemptAt
+        """)
+    List<String> findClaimableJobIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE로 작업 선점 (다른 인스턴스가 먼저 가져갔으면 0 반환)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE PipelineJob j
+        SET j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING,
+            j.leaseOwner = :owner, j.leaseExpiresAt = :leaseUntil,
+            j.attempts = j.attempts + 1, j.updatedAt = :now
+        WHERE j.jobId = :jobId
+          AND ((j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.QUEUED AND j.nextAttemptAt <= :now)
+            OR (j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING AND j.leaseExpiresAt < :now))
+        """)
+    int claim(@Param("jobId") String jobId,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 실행 중인 작업들의 lease 연장
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE PipelineJob j SET j.leaseExpiresAt = :leaseUntil, j.updatedAt = :now
+        WHERE j.jobId IN :jobIds AND j.leaseOwner = :owner
+          AND j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING
+        """)
+    int renewLeases(@Param("jobIds") List<String> jobIds,
+                    @Param("owner") String owner,
+                    @Param("now") LocalDateTime now,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 완료/최종 실패 기록 (lease를 가진 인스턴스만)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE PipelineJob j
+        SET j.status = :status, j.message = :message,
+            j.successfulCount = :successfulCount, j.failedCount = :failedCount,
+            j.leaseOwner = NULL, j.leaseExpiresAt = NULL,
+            j.updatedAt = :now, j.finishedAt = :now
+        WHERE j.jobId = :jobId AND j.leaseOwner = :owner
+          AND j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING
+        """)
+    int finish(@Param("jobId") String jobId,
+               @Param("owner") String owner,
+               @Param("status") PipelineJob.Status status,
+               @Param("message") String message,
+               @Param("successfulCount") Integer successfulCount,
+               @Param("failedCount") Integer failedCount,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 재시도 대기열로 되돌림 (lease를 가진 인스턴스만)
+     */
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE PipelineJob j
+        SET j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.QUEUED,
+            j.message = :message, j.nextAttemptAt = :nextAttemptAt,
+            j.leaseOwner = NULL, j.leaseExpiresAt = NULL, j.updatedAt = :now
+        WHERE j.jobId = :jobId AND j.leaseOwner = :owner
+          AND j.status = com.skala03.skala_backend.entity.interview.PipelineJob.Status.RUNNING
+        """)
+    int requeue(@Param("jobId") String jobId,
+                @Param("owner") String owner,
+                @Param("message") String message,
+                @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                @Param("now") LocalDateTime now);
+}
@@ -3,9 +3,12 @@ package com.skala03.skala_backend.repository.interview;
 import com.skala03.skala_backend.entity.interview.RoomParticipant;
 import com.skala03.skala_backend.entity.interview.RoomParticipantId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,15 @@ public interface RoomParticipantRepository extends JpaRepository<RoomParticipant
 
     Optional<RoomParticipant> findByRoomIdAndUserId(String roomId, String userId);
 
+    // 세션 면접관들의 상태를 UPDATE 한 번으로 변경
+    @Modifying
+    @Query("UPDATE RoomParticipant rp SET rp.participantStatus = :status, rp.lastPingAt = :now " +
+            "WHERE rp.roomId = :roomId AND rp.userId IN :userIds")
+    int updateStatusByRoomIdAndUserIdIn(@Param("roomId") String roomId,
+                                        @Param("userIds") Collection<String> userIds,
+                                        @Param("status") RoomParticipant.ParticipantStatus status,
+                                        @Param("now") LocalDateTime now);
+
     @Query("SELECT COUNT(rp) FROM RoomParticipant rp WHERE rp.roomId = :roomId AND rp.participantStatus = :status")
     long countByRoomIdAndStatus(@Param("roomId") String roomId, @Param("status") RoomParticipant.ParticipantStatus status);
 
@@ -2,11 +2,14 @@
 package com.skala03.skala_backend.repository.interview;
 
 import com.skala03.skala_backend.entity.interview.Session;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,18 +21,47 @@ public interface SessionRepository extends JpaRepository<Session, Integer> {
 
     List<Session> findByRoomIdAndSessionStatus(String roomId, Session.SessionStatus status);
 
-    @Query("SELECT s FROM Session s WHERE s.roomId = :roomId AND s.interviewersUserId LIKE %:userId%")
+    // session_interviewers(user_id) 인덱스 조회
+    @Query("SELECT s FROM Session s JOIN s.interviewerIds i WHERE s.roomId = :roomId AND i = :userId")
     List<Session> findSessionsByInterviewer(@Param("roomId") String roomId, @Param("userId") String userId);
 
-    @Query("SELECT s FROM Session s WHERE s.interviewersUserId LIKE %:userId%")
-    List<Session> findByUserIdInInterviewers(String userId);
+    @Query("SELECT s FROM Session s JOIN s.interviewerIds i WHERE i = :userId")
+    List<Session> findByUserIdInInterviewers(@Param("userId") String userId);
 
     List<Session> findByRoomId(String roomId);
 
    /* @Query("SELECT s.sessionId FROM Session s WHERE s.roomId = :roomId AND s.interviewersUserId LIKE %:userId% AND s.sessionStatus IN ('IN_PROGRESS', 'WAITING', 'SCHEDULED') ORDER BY s.sessionStatus DESC, s.sessionDate ASC")
     Optional<Integer> findCurrentSessionIdByRoomAndUser(@Param("roomId") String roomId, @Param("userId") String userId); */
 
-   @Query(value = "SELECT s.session_id FROM sessions s WHERE s.room_id = :roomId AND s.interviewers_user_id LIKE %:userId% AND s.session_status = 'WAITING' ORDER BY s.session_date ASC LIMIT 1", nativeQuery = true)
+   @Query(value = "SELECT s.session_id FROM session_interviewers si JOIN sessions s ON s.session_id = si.session_id WHERE si.user_id = :userId AND s.room_id = :roomId AND s.session_status = 'WAITING' ORDER BY s.session_date ASC LIMIT 1", nativeQuery = true)
    Optional<Integer> findCurrentSessionIdByRoomAndUser(@Param("roomId") String roomId, @Param("userId") String userId);
 
+    // 상태 전이 (SessionStateMachine) - 현재 상태가 from 중 하나일 때만 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Session s SET s.sessionStatus = :to, s.version = s.version + 1 " +
+            "WHERE s.sessionId = :sessionId AND s.sessionStatus IN :from")
+    int transitionStatus(@Param("sessionId") Integer sessionId,
+                         @Param("from") Collection<Session.SessionStatus> from,
+                         @Param("to") Session.SessionStatus to);
+
+    // 파이프라인 결과 STT 경로 기록 (상태는 SessionStateMachine에서만 변경)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Session s SET s.rawDataPath = :rawDataPath, s.version = s.version + 1 WHERE s.sessionId = :sessionId")
+    int updateRawDataPath(@Param("sessionId") Integer sessionId, @Param("rawDataPath") String rawDataPath);
+
+    @Query("SELECT s.sessionStatus FROM Session s WHERE s.sessionId = :sessionId")
+    Optional<Session.SessionStatus> findStatusBySessionId(@Param("sessionId") Integer sessionId);
+
+    @Query("SELECT s.roomId FROM Session s WHERE s.sessionId = :sessionId")
+    Optional<String> findRoomIdBySessionId(@Param("sessionId") Integer sessionId);
+
+    // 면접관/지원자 목록이 아직 채워지지 않은 세션 (백필 대상)
+    @Query("SELECT s.sessionId FROM Session s WHERE s.sessionId > :afterSessionId " +
+            "AND ((s.interviewersUserId IS NOT NULL AND s.interviewersUserId <> '' AND s.interviewerIds IS EMPTY) " +
+            "OR (s.applicantsUserId IS NOT NULL AND s.applicantsUserId <> '' AND s.applicantIds IS EMPTY)) ORDER BY s.sessionId")
+    List<Integer> findSessionIdsMissingMembers(@Param("afterSessionId") Integer afterSessionId, Pageable pageable);
+
+    @Query("SELECT s.sessionId FROM Session s WHERE s.sessionId > :afterSessionId ORDER BY s.sessionId")
+    List<Integer> findSessionIdsAfter(@Param("afterSessionId") Integer afterSessionId, Pageable pageable);
+
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.skala03.skala_backend.repository.interview;
+
+import com.skala03.skala_backend.entity.interview.TranscriptionJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TranscriptionJobRepository extends JpaRepository<TranscriptionJob, String> {
+
+    // 같은 음성으로 완료되었거나, 진행 중이면서 aliveSince 이후에 갱신된(처리 중인 인스턴스가 살아 있는) 최신 작업
+    @Query("SELECT t FROM TranscriptionJob t WHERE t.contentKey = :contentKey " +
+            "AND (t.status = 'completed' OR (t.status = 'processing' AND t.updatedAt >= :aliveSince)) " +
+            "ORDER BY t.updatedAt DESC")
+    List<TranscriptionJob> findReusable(@Param("contentKey") String contentKey,
+                                        @Param("aliveSince") LocalDateTime aliveSince,
+                                        Pageable pageable);
+
+    // 이 인스턴스에서 처리 중인 작업의 updatedAt 갱신 (heartbeat)
+    @Modifying
+    @Transactional
+    @Query("UPDATE TranscriptionJob t SET t.updatedAt = :now " +
+            "WHERE t.transcriptionId IN :transcriptionIds AND t.status = 'processing'")
+    int touchProcessing(@Param("transcriptionIds") Collection<String> transcriptionIds,
+                        @Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 작업 삭제
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM TranscriptionJob t WHERE t.updatedAt < :cutoff")
+    int deleteUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 서버 재시작 등으로 중단된 채 남은 processing 작업을 failed로 정리
+    @Modifying
+    @Transactional
+    @Query("UPDATE TranscriptionJob t SET t.status = 'failed', t.errorMessage = :message, t.updatedAt = :now " +
+            "WHERE t.status = 'processing' AND t.updatedAt < :cutoff")
+    int failStaleProcessing(@Param("cutoff") LocalDateTime cutoff,
+                            @Param("message") String message,
+                            @Param("now") LocalDateTime now);
+}
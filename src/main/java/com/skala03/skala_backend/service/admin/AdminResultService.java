@@ -19,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,7 +74,7 @@ public class AdminResultService {
                 Session session = sessionOpt.get();
 
                 // 면접관 아이디들을 이름으로 변환
-                String interviewerNames = convertInterviewerIdsToNames(session.getInterviewersUserId());
+                String interviewerNames = convertInterviewerIdsToNames(session.getInterviewerIds());
                 dto.setInterviewer(interviewerNames);
 
                 dto.setInterviewDate(session.getSessionDate().toLocalDate().toString());
@@ -86,22 +85,16 @@ public class AdminResultService {
     }
 
     /**
-     * 면접관 아이디 문자열을 면접관 이름 문자열로 변환
-     * 예: "sk-01,sk-02,sk-03" → "김철수, 박영희, 이민수"
+     * 면접관 아이디 목록을 면접관 이름 문자열로 변환
+     * 예: [sk-01, sk-02, sk-03] → "김철수, 박영희, 이민수"
      */
-    private String convertInterviewerIdsToNames(String interviewerIds) {
-        if (interviewerIds == null || interviewerIds.trim().isEmpty()) {
+    private String convertInterviewerIdsToNames(List<String> interviewerIds) {
+        if (interviewerIds.isEmpty()) {
             return "";
         }
 
-        // 쉼표로 구분된 아이디들을 파싱
-        List<String> idList = Arrays.stream(interviewerIds.split(","))
-                .map(String::trim)
-                .filter(id -> !id.isEmpty())
-                .collect(Collectors.toList());
-
         // 각 아이디로 사용자 이름 조회
-        List<String> nameList = idList.stream()
+        List<String> nameList = interviewerIds.stream()
                 .map(id -> userRepository.findById(id)
                         .map(User::getUserName)
                         .orElse("Unknown")) // 사용자를 찾을 수 없는 경우 "Unknown"
@@ -9,11 +9,18 @@ import com.skala03.skala_backend.entity.admin.JobRoleKeyword;
 import com.skala03.skala_backend.repository.admin.AdminRepository;
 import com.skala03.skala_backend.dto.client.FastApiDto;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +34,12 @@ public class AdminService {
     @Autowired
     private FastApiClient fastApiClient;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // 1. 키워드 목록 조회
     @Transactional(readOnly = true)
     public List<AdminDto.KeywordResponse> getAllKeywords() {
@@ -72,6 +85,7 @@ public class AdminService {
             );
         }
 
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.KEYWORD_CREATED, savedKeyword.getKeywordId());
         return "Keyword created successfully";
     }
 
@@ -83,7 +97,7 @@ public class AdminService {
                 .orElseThrow(() -> new RuntimeException("Keyword not found: " + keywordId));
 
         try {
-            // FastAPI 헬스체크 먼저 수행
+            // FastAPI 헬스 상태 확인 (백그라운드 프로브 캐시 + 서킷 상태, 장애 중에는 즉시 mock으로 대체)
             if (!fastApiClient.isHealthy()) {
                 log.warn("FastAPI 서버 헬스체크 실패, mock 데이터로 대체");
                 return generateMockResponse(keywordId, keyword, "FastAPI 서버에 연결할 수 없어 기본 평가기준을 생성했습니다.");
@@ -100,39 +114,7 @@ public class AdminService {
             // FastAPI 호출
             FastApiDto.KeywordResponse fastApiResponse = fastApiClient.generateKeywordCriteria(fastApiRequest);
 
-            if (fastApiResponse == null) {
-                log.error("FastAPI 응답이 null: keywordId={}", keywordId);
-                return generateMockResponse(keywordId, keyword, "AI 서비스 응답이 없어 기본 평가기준을 생성했습니다.");
-            }
-
-            if (!fastApiResponse.isSuccess()) {
-                String errorMsg = fastApiResponse.getErrorDetail() != null ? fastApiResponse.getErrorDetail() : "알 수 없는 오류";
-                log.error("AI 키워드 생성 실패: keywordId={}, error={}", keywordId, errorMsg);
-                return generateMockResponse(keywordId, keyword, "AI 분석 실패: " + errorMsg);
-            }
-
-            if (fastApiResponse.getCriteria() == null || fastApiResponse.getCriteria().isEmpty()) {
-                log.error("FastAPI 응답에 평가기준이 없음: keywordId={}", keywordId);
-                return generateMockResponse(keywordId, keyword, "AI가 평가기준을 생성하지 못해 기본 평가기준을 생성했습니다.");
-            }
-
-            // FastAPI 응답을 AdminDto로 변환
-            List<AdminDto.KeywordCriteriaInfo> aiCriteria = fastApiResponse.getCriteria().entrySet().stream()
-                    .map(entry -> new AdminDto.KeywordCriteriaInfo(entry.getKey(), entry.getValue()))
-                    .sorted((a, b) -> b.getKeywordScore() - a.getKeywordScore()) // 5점부터 1점까지 정렬
-                    .collect(Collectors.toList());
-
-            log.info("AI 생성된 기준 수: {}", aiCriteria.size());
-
-            // 기존 평가기준 삭제 후 새로 추가
-            adminRepository.deleteCriteriaByKeywordId(keywordId);
-
-            for (AdminDto.KeywordCriteriaInfo criteria : aiCriteria) {
-                adminRepository.insertCriteria(keywordId, criteria.getKeywordScore(), criteria.getKeywordGuideline());
-            }
-
-            log.info("AI 키워드 평가 기준 생성 완료: keywordId={}", keywordId);
-            return new AdminDto.AiGenerateResponse(aiCriteria, "AI 기반 평가기준이 성공적으로 생성되었습니다.");
+            return applyAiCriteria(keywordId, keyword, fastApiResponse);
 
         } catch (Exception e) {
             log.error("AI 키워드 생성 중 예외 발생: keywordId={}", keywordId, e);
@@ -144,7 +126,7 @@ public class AdminService {
     public AdminDto.AiGenerateResponse generateAiCriteriaForNewKeyword(String keywordName, String keywordDetail) {
 
         try {
-            // FastAPI 헬스체크
+            // FastAPI 헬스 상태 확인 (캐시)
             if (!fastApiClient.isHealthy()) {
                 log.warn("FastAPI 서버 헬스체크 실패");
                 return generateMockResponseForNewKeyword(keywordName, keywordDetail, "FastAPI 서버 연결 실패");
@@ -161,17 +143,7 @@ public class AdminService {
             // FastAPI 호출
             FastApiDto.KeywordResponse fastApiResponse = fastApiClient.generateKeywordCriteria(fastApiRequest);
 
-            // 응답 처리 로직은 기존과 동일...
-            if (fastApiResponse != null && fastApiResponse.isSuccess() && fastApiResponse.getCriteria() != null) {
-                List<AdminDto.KeywordCriteriaInfo> aiCriteria = fastApiResponse.getCriteria().entrySet().stream()
-                        .map(entry -> new AdminDto.KeywordCriteriaInfo(entry.getKey(), entry.getValue()))
-                        .sorted((a, b) -> b.getKeywordScore() - a.getKeywordScore())
-                        .collect(Collectors.toList());
-
-                return new AdminDto.AiGenerateResponse(aiCriteria, "AI 기반 평가기준이 성공적으로 생성되었습니다.");
-            } else {
-                return generateMockResponseForNewKeyword(keywordName, keywordDetail, "AI 응답 처리 실패");
-            }
+            return toNewKeywordResponse(keywordName, keywordDetail, fastApiResponse);
 
         } catch (Exception e) {
             log.error("신규 키워드 AI 생성 중 예외: keywordName={}", keywordName, e);
@@ -179,6 +151,128 @@ public class AdminService {
         }
     }
 
+    // AI 응답 검증 후 평가기준 교체 (실패 시 mock 데이터로 대체)
+    private AdminDto.AiGenerateResponse applyAiCriteria(Integer keywordId, Keyword keyword,
+                                                        FastApiDto.KeywordResponse fastApiResponse) {
+        if (fastApiResponse == null) {
+            log.error("FastAPI 응답이 null: keywordId={}", keywordId);
+            return generateMockResponse(keywordId, keyword, "AI 서비스 응답이 없어 기본 평가기준을 생성했습니다.");
+        }
+
+        if (!fastApiResponse.isSuccess()) {
+            String errorMsg = fastApiResponse.getErrorDetail() != null ? fastApiResponse.getErrorDetail() : "알 수 없는 오류";
+            log.error("AI 키워드 생성 실패: keywordId={}, error={}", keywordId, errorMsg);
+            return generateMockResponse(keywordId, keyword, "AI 분석 실패: " + errorMsg);
+        }
+
+        if (fastApiResponse.getCriteria() == null || fastApiResponse.getCriteria().isEmpty()) {
+            log.error("FastAPI 응답에 평가기준이 없음: keywordId={}", keywordId);
+            return generateMockResponse(keywordId, keyword, "AI가 평가기준을 생성하지 못해 기본 평가기준을 생성했습니다.");
+        }
+
+        // FastAPI 응답을 AdminDto로 변환
+        List<AdminDto.KeywordCriteriaInfo> aiCriteria = fastApiResponse.getCriteria().entrySet().stream()
+                .map(entry -> new AdminDto.KeywordCriteriaInfo(entry.getKey(), entry.getValue()))
+                .sorted((a, b) -> b.getKeywordScore() - a.getKeywordScore()) // 5점부터 1점까지 정렬
+                .collect(Collectors.toList());
+
+        log.info("AI 생성된 기준 수: {}", aiCriteria.size());
+
+        // 기존 평가기준 삭제 후 새로 추가
+        adminRepository.deleteCriteriaByKeywordId(keywordId);
+
+        for (AdminDto.KeywordCriteriaInfo criteria : aiCriteria) {
+            adminRepository.insertCriteria(keywordId, criteria.getKeywordScore(), criteria.getKeywordGuideline());
+        }
+
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.CRITERIA_UPDATED, keywordId);
+        log.info("AI 키워드 평가 기준 생성 완료: keywordId={}", keywordId);
+        return new AdminDto.AiGenerateResponse(aiCriteria, "AI 기반 평가기준이 성공적으로 생성되었습니다.");
+    }
+
+    // 신규 키워드 AI 응답 변환 (DB 저장 없음)
+    private AdminDto.AiGenerateResponse toNewKeywordResponse(String keywordName, String keywordDetail,
+                                                             FastApiDto.KeywordResponse fastApiResponse) {
+        // 응답 처리 로직은 기존과 동일...
+        if (fastApiResponse != null && fastApiResponse.isSuccess() && fastApiResponse.getCriteria() != null) {
+            List<AdminDto.KeywordCriteriaInfo> aiCriteria = fastApiResponse.getCriteria().entrySet().stream()
+                    .map(entry -> new AdminDto.KeywordCriteriaInfo(entry.getKey(), entry.getValue()))
+                    .sorted((a, b) -> b.getKeywordScore() - a.getKeywordScore())
+                    .collect(Collectors.toList());
+
+            return new AdminDto.AiGenerateResponse(aiCriteria, "AI 기반 평가기준이 성공적으로 생성되었습니다.");
+        } else {
+            return generateMockResponseForNewKeyword(keywordName, keywordDetail, "AI 응답 처리 실패");
+        }
+    }
+
+    // 3-1. AI 기반 평가기준 생성 (논블로킹)
+    // FastAPI 응답을 기다리는 동안 스레드/DB 트랜잭션을 점유하지 않고, 평가기준 교체만 별도 트랜잭션으로 수행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AdminDto.AiGenerateResponse> generateAiCriteriaAsync(Integer keywordId, AdminDto.AiGenerateRequest request) {
+
+        // 키워드 존재 여부 확인
+        Keyword keyword = adminRepository.findById(keywordId)
+                .orElseThrow(() -> new RuntimeException("Keyword not found: " + keywordId));
+
+        FastApiDto.KeywordRequest fastApiRequest = FastApiDto.KeywordRequest.builder()
+                .keywordName(keyword.getKeywordName())
+                .keywordDetail(keyword.getKeywordDetail() != null ? keyword.getKeywordDetail() : "")
+                .build();
+
+        return fastApiClient.isHealthyAsync()
+                .flatMap(healthy -> {
+                    if (!healthy) {
+                        log.warn("FastAPI 서버 헬스체크 실패, mock 데이터로 대체");
+                        return onBoundedElastic(() -> inTransaction(() ->
+                                generateMockResponse(keywordId, keyword, "FastAPI 서버에 연결할 수 없어 기본 평가기준을 생성했습니다.")));
+                    }
+                    return fastApiClient.generateKeywordCriteriaAsync(fastApiRequest)
+                            .publishOn(Schedulers.boundedElastic())
+                            .map(fastApiResponse -> inTransaction(() -> applyAiCriteria(keywordId, keyword, fastApiResponse)));
+                })
+                .onErrorResume(e -> {
+                    log.error("AI 키워드 생성 중 예외 발생: keywordId={}", keywordId, e);
+                    return onBoundedElastic(() -> inTransaction(() ->
+                            generateMockResponse(keywordId, keyword, "AI 서비스 일시적 오류로 기본 평가기준을 생성했습니다: " + e.getMessage())));
+                })
+                .toFuture();
+    }
+
+    // 신규 키워드용 (논블로킹)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AdminDto.AiGenerateResponse> generateAiCriteriaForNewKeywordAsync(String keywordName, String keywordDetail) {
+
+        FastApiDto.KeywordRequest fastApiRequest = FastApiDto.KeywordRequest.builder()
+                .keywordName(keywordName)
+                .keywordDetail(keywordDetail != null ? keywordDetail : "")
+                .build();
+
+        return fastApiClient.isHealthyAsync()
+                .flatMap(healthy -> {
+                    if (!healthy) {
+                        log.warn("FastAPI 서버 헬스체크 실패");
+                        return Mono.just(generateMockResponseForNewKeyword(keywordName, keywordDetail, "FastAPI 서버 연결 실패"));
+                    }
+                    return fastApiClient.generateKeywordCriteriaAsync(fastApiRequest)
+                            .map(fastApiResponse -> toNewKeywordResponse(keywordName, keywordDetail, fastApiResponse));
+                })
+                .onErrorResume(e -> {
+                    log.error("신규 키워드 AI 생성 중 예외: keywordName={}", keywordName, e);
+                    return Mono.just(generateMockResponseForNewKeyword(keywordName, keywordDetail, "AI 서비스 오류: " + e.getMessage()));
+                })
+                .toFuture();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    // DB 작업은 Netty 이벤트 루프가 아닌 boundedElastic 스레드에서 수행
+    private <T> Mono<T> onBoundedElastic(Supplier<T> action) {
+        return Mono.fromSupplier(action).subscribeOn(Schedulers.boundedElastic());
+    }
+
     // Mock 응답 생성 메서드 (fallback용) - 기존
     private AdminDto.AiGenerateResponse generateMockResponse(Integer keywordId, Keyword keyword, String message) {
         log.warn("Mock 데이터 생성: keywordId={}, message={}", keywordId, message);
@@ -191,6 +285,7 @@ public class AdminService {
             adminRepository.insertCriteria(keywordId, criteria.getKeywordScore(), criteria.getKeywordGuideline());
         }
 
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.CRITERIA_UPDATED, keywordId);
         return new AdminDto.AiGenerateResponse(mockCriteria, message);
     }
 
@@ -222,6 +317,7 @@ public class AdminService {
             adminRepository.insertCriteria(keywordId, criteria.getKeywordScore(), criteria.getKeywordGuideline());
         }
 
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.KEYWORD_UPDATED, keywordId);
         return "Keyword updated successfully";
     }
 
@@ -238,6 +334,7 @@ public class AdminService {
         // 키워드 삭제
         adminRepository.deleteById(keywordId);
 
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.KEYWORD_DELETED, keywordId);
         return "Keyword deleted successfully";
     }
 
@@ -347,10 +444,16 @@ public class AdminService {
             ));
         }
 
+        publishKeywordChanged(KeywordChangedEvent.ChangeType.JOB_ROLE_KEYWORDS_UPDATED, null);
         return new AdminDto.UpdateKeywordSelectionResponse(
                 jobRoleId,
                 "Job role keywords updated successfully",
                 updatedKeywords
         );
     }
-}
\ No newline at end of file
+
+    // 키워드 변경 알림 - 캐시들은 트랜잭션 커밋 이후 무효화됨
+    private void publishKeywordChanged(KeywordChangedEvent.ChangeType changeType, Integer keywordId) {
+        eventPublisher.publishEvent(new KeywordChangedEvent(changeType, keywordId));
+    }
+}
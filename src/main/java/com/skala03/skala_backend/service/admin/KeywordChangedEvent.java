@@ -0,0 +1,26 @@
+package com.skala03.skala_backend.service.admin;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 키워드/평가기준/직무별 키워드 선택이 변경되었음을 알리는 이벤트
+ * - AdminService가 변경 시 발행, 캐시들은 커밋 이후(@TransactionalEventListener) 수신해 무효화
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeywordChangedEvent {
+
+    public enum ChangeType {
+        KEYWORD_CREATED,
+        KEYWORD_UPDATED,
+        KEYWORD_DELETED,
+        CRITERIA_UPDATED,
+        JOB_ROLE_KEYWORDS_UPDATED
+    }
+
+    private final ChangeType changeType;
+
+    // 변경된 키워드 ID (직무별 키워드 선택 변경처럼 특정 키워드가 없으면 null)
+    private final Integer keywordId;
+}
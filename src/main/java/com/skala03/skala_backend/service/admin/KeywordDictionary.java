@@ -0,0 +1,155 @@
+package com.skala03.skala_backend.service.admin;
+
+import com.skala03.skala_backend.entity.admin.Keyword;
+import com.skala03.skala_backend.repository.admin.KeywordRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 키워드 이름 ↔ ID 사전
+ * - keywords 테이블 전체를 변경 불가 스냅샷으로 보관, 조회는 DB 접근 없이 스냅샷에서만 수행
+ * - KeywordChangedEvent 수신 시(커밋 이후) 새 스냅샷을 만들어 교체 (copy-on-write, 조회 쪽은 락 없음)
+ * - 다른 인스턴스에서 수정된 키워드는 refresh-interval 주기 갱신으로 반영
+ * - 모르는 이름/ID가 들어오면 miss-refresh-interval에 한 번만 다시 읽음 (없는 키워드 때문에 DB를 반복 조회하지 않도록)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordDictionary {
+
+    private final KeywordRepository keywordRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${keyword.dictionary.miss-refresh-interval:30s}")
+    private Duration missRefreshInterval;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("keyword.dictionary.size", this,
+                        dictionary -> dictionary.snapshot != null ? dictionary.snapshot.idsByName.size() : 0)
+                .description("키워드 사전에 적재된 키워드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키워드 이름 목록을 ID로 변환
+     * @return 찾은 키워드만 담은 맵 (이름 → ID)
+     */
+    public Map<String, Integer> resolveIds(Collection<String> keywordNames) {
+        Snapshot current = current();
+        Map<String, Integer> resolved = current.resolve(keywordNames);
+
+        if (resolved.size() < keywordNames.size() && current.isOlderThan(missRefreshInterval)) {
+            resolved = refreshIfOlderThan(missRefreshInterval).resolve(keywordNames);
+        }
+        return resolved;
+    }
+
+    /**
+     * 키워드 ID로 이름 조회 (모르는 ID면 resolveIds와 같은 규칙으로 한 번 다시 읽음)
+     */
+    public Optional<String> findName(Integer keywordId) {
+        Snapshot current = current();
+        String name = current.namesById.get(keywordId);
+
+        if (name == null && keywordId != null && current.isOlderThan(missRefreshInterval)) {
+            name = refreshIfOlderThan(missRefreshInterval).namesById.get(keywordId);
+        }
+        return Optional.ofNullable(name);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${keyword.dictionary.refresh-interval:5m}",
+            initialDelayString = "${keyword.dictionary.refresh-interval:5m}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("키워드 사전 주기 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * keywords 테이블을 다시 읽어 스냅샷 교체
+     */
+    public synchronized Snapshot refresh() {
+        Map<String, Integer> idsByName = new HashMap<>();
+        Map<Integer, String> namesById = new HashMap<>();
+        for (Keyword keyword : keywordRepository.findAll()) {
+            idsByName.put(keyword.getKeywordName(), keyword.getKeywordId());
+            namesById.put(keyword.getKeywordId(), keyword.getKeywordName());
+        }
+
+        Snapshot refreshed = new Snapshot(idsByName, namesById, System.nanoTime());
+        snapshot = refreshed;
+        log.debug("키워드 사전 갱신: {}개", idsByName.size());
+        return refreshed;
+    }
+
+    /**
+     * 스냅샷이 maxAge보다 오래된 경우에만 다시 읽음
+     * 잠금 안에서 한 번 더 확인 - 동시에 들어온 miss 중 첫 요청만 DB를 읽고 나머지는 그 결과를 씀
+     */
+    private synchronized Snapshot refreshIfOlderThan(Duration maxAge) {
+        Snapshot current = snapshot;
+        if (current != null && !current.isOlderThan(maxAge)) {
+            return current;
+        }
+        return refresh();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : refreshIfOlderThan(missRefreshInterval);
+    }
+
+    /**
+     * 키워드 사전 스냅샷 (생성 후 변경되지 않음)
+     */
+    public static final class Snapshot {
+        private final Map<String, Integer> idsByName;
+        private final Map<Integer, String> namesById;
+        private final long loadedAtNanos;
+
+        private Snapshot(Map<String, Integer> idsByName, Map<Integer, String> namesById, long loadedAtNanos) {
+            this.idsByName = Collections.unmodifiableMap(idsByName);
+            this.namesById = Collections.unmodifiableMap(namesById);
+            this.loadedAtNanos = loadedAtNanos;
+        }
+
+        private Map<String, Integer> resolve(Collection<String> keywordNames) {
+            Map<String, Integer> resolved = new HashMap<>();
+            for (String keywordName : keywordNames) {
+                Integer keywordId = idsByName.get(keywordName);
+                if (keywordId != null) {
+                    resolved.put(keywordName, keywordId);
+                }
+            }
+            return resolved;
+        }
+
+        private boolean isOlderThan(Duration age) {
+            return System.nanoTime() - loadedAtNanos > age.toNanos();
+        }
+    }
+}
@@ -317,6 +317,8 @@ public class ApplicantService {
                 applicantIdsStr,
                 originalSessionId
         );
+        // 복사된 쉼표 구분 컬럼 기준으로 session_interviewers / session_applicants 기록
+        sessionRepository.findById(newSessionId).ifPresent(Session::syncMembers);
 
         // 5. 선택된 지원자들을 새 세션으로 이동
         selectedApplicants.forEach(applicant -> {
@@ -341,8 +343,8 @@ public class ApplicantService {
                     .collect(Collectors.toList());
 
             if (remainingApplicantIds.isEmpty()) {
-                // 빈 세션 삭제
-                applicantRepository.deleteSessionById(sessionId);
+                // 빈 세션 삭제 (엔티티로 삭제해야 session_interviewers / session_applicants도 함께 삭제됨)
+                sessionRepository.findById(sessionId).ifPresent(sessionRepository::delete);
                 deletedSessionIds.add(sessionId);
 
                 updatedSessions.add(new ApplicantDto.SessionUpdateInfo(
@@ -351,9 +353,10 @@ public class ApplicantService {
                         "deleted"
                 ));
             } else {
-                // sessions 테이블의 applicants_user_id 업데이트
+                // sessions 테이블의 applicants_user_id 업데이트 (setter에서 session_applicants도 함께 갱신)
                 String updatedApplicantIds = String.join(",", remainingApplicantIds);
-                applicantRepository.updateSessionApplicants(sessionId, updatedApplicantIds);
+                sessionRepository.findById(sessionId)
+                        .ifPresent(session -> session.setApplicantsUserId(updatedApplicantIds));
 
                 updatedSessions.add(new ApplicantDto.SessionUpdateInfo(
                         sessionId,
@@ -0,0 +1,73 @@
+package com.skala03.skala_backend.service.interview;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 음성 파일 길이(초) 추정
+ * WAV는 헤더의 byteRate/data 크기로 계산하고, 그 외 포맷은 평균 비트레이트(128kbps)로 추정한다.
+ */
+@Slf4j
+public final class AudioDurationEstimator {
+
+    private static final long DEFAULT_BYTES_PER_SECOND = 128_000 / 8;
+
+    private AudioDurationEstimator() {
+    }
+
+    public static long estimateSeconds(File audioFile) {
+        try {
+            Long wavSeconds = readWavDurationSeconds(audioFile);
+            if (wavSeconds != null) {
+                return wavSeconds;
+            }
+        } catch (IOException e) {
+            log.debug("WAV 헤더 읽기 실패, 비트레이트로 추정: {} - {}", audioFile.getName(), e.getMessage());
+        }
+        return Math.max(1, audioFile.length() / DEFAULT_BYTES_PER_SECOND);
+    }
+
+    private static Long readWavDurationSeconds(File audioFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(audioFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(header) < 12) {
+                return null;
+            }
+            header.flip();
+            if (header.getInt(0) != 0x46464952 || header.getInt(8) != 0x45564157) { // "RIFF", "WAVE"
+                return null;
+            }
+
+            long byteRate = 0;
+            ByteBuffer chunkHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+            long position = 12;
+            while (position + 8 <= channel.size()) {
+                chunkHeader.clear();
+                channel.read(chunkHeader, position);
+                chunkHeader.flip();
+                int chunkId = chunkHeader.getInt();
+                long chunkSize = Integer.toUnsignedLong(chunkHeader.getInt());
+
+                if (chunkId == 0x20746d66) { // "fmt "
+                    ByteBuffer fmt = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+                    channel.read(fmt, position + 8);
+                    byteRate = Integer.toUnsignedLong(fmt.getInt(8));
+                } else if (chunkId == 0x61746164) { // "data"
+                    if (byteRate <= 0) {
+                        return null;
+                    }
+                    long dataSize = Math.min(chunkSize, channel.size() - position - 8);
+                    return Math.max(1, dataSize / byteRate);
+                }
+                position += 8 + chunkSize + (chunkSize & 1);
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.global.config.TranscriptionSpoolProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 음성 업로드 스풀
+ * - 요청 본문을 고정 크기 버퍼로 읽어 FileChannel로 바로 기록 (파일 전체를 메모리에 올리지 않음)
+ * - 기록하면서 크기와 SHA-256을 함께 계산
+ * - 파일 크기/디렉토리 전체 사용량 한도를 넘는 즉시 중단하고 부분 파일 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AudioSpoolService {
+
+    private final TranscriptionSpoolProperties spoolProperties;
+    private final MeterRegistry meterRegistry;
+
+    // 현재 스풀 디렉토리에 저장된(또는 저장 중인) 바이트 수
+    private final AtomicLong spooledBytes = new AtomicLong();
+
+    private Path spoolDir;
+
+    @PostConstruct
+    public void init() throws IOException {
+        spoolDir = Paths.get(spoolProperties.getDir()).toAbsolutePath();
+        Files.createDirectories(spoolDir);
+
+        // 이전 실행에서 남은 스풀 파일 정리
+        int removed = 0;
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(spoolDir)) {
+            for (Path leftover : leftovers) {
+                if (Files.deleteIfExists(leftover)) {
+                    removed++;
+                }
+            }
+        }
+        if (removed > 0) {
+            log.info("이전 스풀 파일 {}개 삭제 - {}", removed, spoolDir);
+        }
+
+        Gauge.builder("transcription.spool.bytes", spooledBytes, AtomicLong::get)
+                .description("스풀 디렉토리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입력 스트림을 스풀 파일로 저장
+     * @param declaredLength Content-Length 등 사전에 알 수 있는 크기 (모르면 -1)
+     * @throws AudioTooLargeException 파일 크기 한도 초과
+     * @throws RejectedExecutionException 스풀 디렉토리 사용량 한도 초과
+     */
+    public SpooledAudio spool(InputStream inputStream, String originalFilename, long declaredLength) throws IOException {
+        long maxFileBytes = spoolProperties.getMaxFileSize().toBytes();
+        if (declaredLength > maxFileBytes) {
+            throw new AudioTooLargeException(maxFileBytes);
+        }
+
+        Path target = spoolDir.resolve(UUID.randomUUID() + extensionOf(originalFilename));
+        MessageDigest digest = newSha256();
+        ByteBuffer buffer = ByteBuffer.allocate((int) spoolProperties.getBufferSize().toBytes());
+        long written = 0;
+
+        try (ReadableByteChannel source = Channels.newChannel(inputStream);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+
+            int read;
+            while ((read = source.read(buffer)) != -1) {
+                if (read == 0) {
+                    continue;
+                }
+                if (written + read > maxFileBytes) {
+                    throw new AudioTooLargeException(maxFileBytes);
+                }
+                reserve(read);
+                written += read;
+
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            spooledBytes.addAndGet(-written);
+            Files.deleteIfExists(target);
+            throw e;
+        }
+
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+        log.info("음성 파일 스풀 완료 - 파일: {}, 크기: {} bytes, sha256: {}", originalFilename, written, sha256);
+        return new SpooledAudio(target, originalFilename, written, sha256);
+    }
+
+    /**
+     * 스풀 파일 삭제 (작업 종료 시 반드시 호출)
+     */
+    public void release(SpooledAudio audio) {
+        try {
+            if (Files.deleteIfExists(audio.getPath())) {
+                spooledBytes.addAndGet(-audio.getSize());
+            }
+        } catch (IOException e) {
+            log.warn("스풀 파일 삭제 실패: {} - {}", audio.getPath(), e.getMessage());
+        }
+    }
+
+    /**
+     * 스풀된 WAV를 겹치는 구간 파일로 분할 (구간 파일도 스풀 디렉토리 사용량에 포함)
+     * @return 분할된 구간 목록, 분할할 수 없는 포맷이면 빈 목록
+     */
+    public List<WavChunker.Chunk> splitWav(SpooledAudio audio, Duration chunkDuration, Duration overlap) throws IOException {
+        List<WavChunker.Chunk> chunks = WavChunker.split(audio.getPath(), spoolDir, chunkDuration, overlap);
+        long reserved = 0;
+        try {
+            for (WavChunker.Chunk chunk : chunks) {
+                long size = Files.size(chunk.getPath());
+                reserve(size);
+                reserved += size;
+            }
+        } catch (IOException | RuntimeException e) {
+            spooledBytes.addAndGet(-reserved);
+            for (WavChunker.Chunk chunk : chunks) {
+                Files.deleteIfExists(chunk.getPath());
+            }
+            throw e;
+        }
+        return chunks;
+    }
+
+    /**
+     * 구간 파일 삭제 (Vito 업로드 후 즉시 호출)
+     */
+    public void release(WavChunker.Chunk chunk) {
+        if (!Files.exists(chunk.getPath())) {
+            return;
+        }
+        try {
+            long size = Files.size(chunk.getPath());
+            if (Files.deleteIfExists(chunk.getPath())) {
+                spooledBytes.addAndGet(-size);
+            }
+        } catch (IOException e) {
+            log.warn("구간 파일 삭제 실패: {} - {}", chunk.getPath(), e.getMessage());
+        }
+    }
+
+    private void reserve(long bytes) {
+        long maxTotalBytes = spoolProperties.getMaxTotalSize().toBytes();
+        if (spooledBytes.addAndGet(bytes) > maxTotalBytes) {
+            spooledBytes.addAndGet(-bytes);
+            throw new RejectedExecutionException("음성 파일 저장 공간이 부족합니다. (maxTotalSize=" + spoolProperties.getMaxTotalSize() + ")");
+        }
+    }
+
+    private String extensionOf(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int dot = originalFilename.lastIndexOf('.');
+        if (dot < 0 || dot == originalFilename.length() - 1) {
+            return "";
+        }
+        String extension = originalFilename.substring(dot + 1).replaceAll("[^A-Za-z0-9]", "");
+        return extension.isEmpty() || extension.length() > 10 ? "" : "." + extension.toLowerCase();
+    }
+
+    private MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 업로드 파일 크기 한도 초과 (413 응답)
+     */
+    public static class AudioTooLargeException extends IOException {
+        public AudioTooLargeException(long maxBytes) {
+            super("파일 크기가 " + (maxBytes / (1024 * 1024)) + "MB를 초과합니다.");
+        }
+    }
+}
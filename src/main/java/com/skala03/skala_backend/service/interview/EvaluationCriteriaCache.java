@@ -0,0 +1,99 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.service.admin.KeywordChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 직무명별 평가기준 캐시 (키워드명 → 점수 → 가이드라인)
+ * - 평가기준은 관리자가 키워드를 수정할 때만 바뀌므로 변경 불가 맵으로 만들어 보관
+ * - KeywordChangedEvent 수신 시(커밋 이후) 전체 무효화
+ * - 조회 중 무효화가 일어나면 세대(generation)가 바뀌므로 그 결과는 캐시에 넣지 않음 (변경 전 데이터가 남지 않도록)
+ * - 빈 결과(평가기준 없음/조회 실패)는 캐시하지 않음
+ * - 적중/미스는 evaluation.criteria.cache{result} 카운터로 노출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EvaluationCriteriaCache {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Map<String, Map<String, String>>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Counter invalidationCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("evaluation.criteria.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("evaluation.criteria.cache").tag("result", "miss").register(meterRegistry);
+        invalidationCounter = Counter.builder("evaluation.criteria.cache.invalidations").register(meterRegistry);
+        Gauge.builder("evaluation.criteria.cache.size", entries, Map::size)
+                .description("캐시된 직무별 평가기준 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 직무 평가기준 조회 (없으면 loader로 조회 후 캐시)
+     * @return 변경 불가 맵
+     */
+    public Map<String, Map<String, String>> get(String jobRoleName,
+                                                Function<String, Map<String, Map<String, String>>> loader) {
+        Map<String, Map<String, String>> cached = entries.get(jobRoleName);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        long loadGeneration = generation.get();
+        Map<String, Map<String, String>> loaded = freeze(loader.apply(jobRoleName));
+
+        if (!loaded.isEmpty() && generation.get() == loadGeneration) {
+            entries.put(jobRoleName, loaded);
+            // put 직전에 무효화가 끼어든 경우 방금 넣은 값 제거
+            if (generation.get() != loadGeneration) {
+                entries.remove(jobRoleName, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onKeywordChanged(KeywordChangedEvent event) {
+        invalidateAll();
+        log.info("평가기준 캐시 무효화: changeType={}, keywordId={}", event.getChangeType(), event.getKeywordId());
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+        invalidationCounter.increment();
+    }
+
+    private Map<String, Map<String, String>> freeze(Map<String, Map<String, String>> criteria) {
+        if (criteria == null || criteria.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, String>> copy = new LinkedHashMap<>();
+        criteria.forEach((keywordName, guidelines) ->
+                copy.put(keywordName, Collections.unmodifiableMap(new LinkedHashMap<>(guidelines))));
+        return Collections.unmodifiableMap(copy);
+    }
+}
@@ -0,0 +1,136 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 전사 작업 메모리 캐시 (1차 저장소)
+ * - 최대 maxEntries개까지 보관, 초과 시 가장 오래 조회되지 않은 작업부터 제거 (LRU)
+ * - 완료/실패 후 ttl이 지난 작업은 주기적으로 제거
+ * - 진행 중(processing) 작업은 TTL로 제거하지 않음
+ * - contentKey → transcriptionId 보조 인덱스로 중복 업로드 조회
+ */
+@Slf4j
+@Component
+public class InMemoryTranscriptionJobStore implements TranscriptionJobStore {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Map<String, TranscriptionJobRecord> records;
+    private final Map<String, String> contentKeyIndex = new HashMap<>();
+
+    public InMemoryTranscriptionJobStore(
+            MeterRegistry meterRegistry,
+            @Value("${transcription.store.memory.max-entries:1000}") int maxEntries,
+            @Value("${transcription.store.memory.ttl:1h}") Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.records = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TranscriptionJobRecord> eldest) {
+                if (size() <= InMemoryTranscriptionJobStore.this.maxEntries) {
+                    return false;
+                }
+                unindex(eldest.getValue());
+                return true;
+            }
+        };
+        Gauge.builder("transcription.store.memory.size", this, InMemoryTranscriptionJobStore::size)
+                .description("메모리에 보관 중인 전사 작업 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void save(TranscriptionJobRecord record) {
+        records.put(record.getTranscriptionId(), record);
+        if (record.getContentKey() != null) {
+            contentKeyIndex.put(record.getContentKey(), record.getTranscriptionId());
+        }
+    }
+
+    @Override
+    public synchronized Optional<TranscriptionJobRecord> find(String transcriptionId) {
+        TranscriptionJobRecord record = records.get(transcriptionId);
+        if (record != null && isExpired(record, LocalDateTime.now())) {
+            remove(transcriptionId);
+            return Optional.empty();
+        }
+        return Optional.ofNullable(record);
+    }
+
+    @Override
+    public synchronized Optional<TranscriptionJobRecord> findReusableByContentKey(String contentKey) {
+        String transcriptionId = contentKeyIndex.get(contentKey);
+        if (transcriptionId == null) {
+            return Optional.empty();
+        }
+        return find(transcriptionId).filter(TranscriptionJobRecord::isReusable);
+    }
+
+    // 메모리의 processing 작업은 이 인스턴스에서 실행 중인 작업뿐이므로 별도 갱신 불필요
+    @Override
+    public void touch(Collection<String> transcriptionIds) {
+    }
+
+    @Override
+    public synchronized void delete(String transcriptionId) {
+        remove(transcriptionId);
+    }
+
+    public synchronized int size() {
+        return records.size();
+    }
+
+    /**
+     * 만료된 완료/실패 작업 정리
+     */
+    @Scheduled(fixedDelayString = "${transcription.store.memory.sweep-interval:5m}")
+    public synchronized void evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int before = records.size();
+        Iterator<TranscriptionJobRecord> iterator = records.values().iterator();
+        while (iterator.hasNext()) {
+            TranscriptionJobRecord record = iterator.next();
+            if (isExpired(record, now)) {
+                unindex(record);
+                iterator.remove();
+            }
+        }
+        int evicted = before - records.size();
+        if (evicted > 0) {
+            log.debug("만료된 전사 작업 {}건 메모리에서 제거 (남은 작업: {})", evicted, records.size());
+        }
+    }
+
+    private void remove(String transcriptionId) {
+        TranscriptionJobRecord removed = records.remove(transcriptionId);
+        if (removed != null) {
+            unindex(removed);
+        }
+    }
+
+    // 인덱스가 다른(더 최근) 작업을 가리키고 있으면 유지
+    private void unindex(TranscriptionJobRecord record) {
+        if (record.getContentKey() != null) {
+            contentKeyIndex.remove(record.getContentKey(), record.getTranscriptionId());
+        }
+    }
+
+    private boolean isExpired(TranscriptionJobRecord record, LocalDateTime now) {
+        return record.isTerminal() && record.getUpdatedAt().plus(ttl).isBefore(now);
+    }
+}
@@ -1,27 +1,23 @@
 package com.skala03.skala_backend.service.interview;
 
+import com.skala03.skala_backend.client.FastApiCallPolicies;
 import com.skala03.skala_backend.client.FastApiClient;
 import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
 import com.skala03.skala_backend.dto.client.FastApiDto;
-import com.skala03.skala_backend.entity.admin.Keyword;
-import com.skala03.skala_backend.entity.applicant.Applicant;
-import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScore;
-import com.skala03.skala_backend.entity.interview.InterviewStatus;
-import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.global.config.FastApiProperties;
 import com.skala03.skala_backend.repository.admin.AdminRepository;
-import com.skala03.skala_backend.repository.admin.KeywordRepository;
-import com.skala03.skala_backend.repository.applicant.ApplicantKeywordScoreRepository;
-import com.skala03.skala_backend.repository.applicant.ApplicantRepository;
-import com.skala03.skala_backend.repository.interview.SessionRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @RequiredArgsConstructor
@@ -29,11 +25,10 @@ import java.util.*;
 public class InterviewProcessingService {
 
     private final FastApiClient fastApiClient;
-    private final SessionRepository sessionRepository;
-    private final ApplicantRepository applicantRepository;
     private final AdminRepository adminRepository;
-    private final KeywordRepository keywordRepository;
-    private final ApplicantKeywordScoreRepository applicantKeywordScoreRepository;
+    private final PipelineResultWriter pipelineResultWriter;
+    private final EvaluationCriteriaCache evaluationCriteriaCache;
+    private final FastApiProperties fastApiProperties;
 
     /**
      * 프론트엔드 요청을 처리하여 FastAPI 호출 후 DB 저장
@@ -41,76 +36,231 @@ public class InterviewProcessingService {
      */
     public InterviewProcessingDto.ProcessingResponse processFullPipeline(
             InterviewProcessingDto.ProcessingRequest request) {
+        return processFullPipelineAsync(request).join();
+    }
 
-        try {
-            log.info(" 면접 처리 시작: sessionId={}, jobRoleName={}, 지원자수={}",
-                    request.getSessionId(), request.getJobRoleName(), request.getApplicantIds().size());
+    /**
+     * processFullPipeline 논블로킹 버전
+     * - FastAPI 응답을 기다리는 동안 스레드를 점유하지 않음 (동시 처리 수는 fastapi-pool 커넥션 수로 제한)
+     * - DB 조회/저장은 boundedElastic 스레드에서 수행 (Netty 이벤트 루프를 막지 않음)
+     * - 실패해도 예외 대신 success=false 응답으로 완료
+     */
+    public CompletableFuture<InterviewProcessingDto.ProcessingResponse> processFullPipelineAsync(
+            InterviewProcessingDto.ProcessingRequest request) {
 
-            // 1. 직무명으로 DB에서 평가기준 조회 (읽기 전용 트랜잭션)
-            Map<String, Map<String, String>> evaluationCriteria = getEvaluationCriteriaByJobRole(request.getJobRoleName());
+        return Mono.fromCallable(() -> buildFastApiRequest(request))
+                .subscribeOn(Schedulers.boundedElastic())
+                // 3. FastAPI 호출 (트랜잭션 외부에서 실행)
+                .flatMap(fastApiRequest -> {
+                    FastApiProperties.Pipeline pipeline = fastApiProperties.getPipeline();
+                    if (pipeline.getFanOut().isEnabled() && fastApiRequest.getApplicantIds().size() > 1) {
+                        log.info(" FastAPI 지원자별 분할 호출 시작: sessionId={}, 지원자수={}, 동시 호출={}",
+                                request.getSessionId(), fastApiRequest.getApplicantIds().size(),
+                                pipeline.getFanOut().getMaxConcurrency());
+                        return processFanOut(fastApiRequest);
+                    }
+
+                    log.info(" FastAPI 호출 시작: sessionId={}, 스트리밍={}", request.getSessionId(), pipeline.isStreaming());
+                    return pipeline.isStreaming()
+                            ? processStreaming(fastApiRequest)
+                            : fastApiClient.callFullPipelineAsync(fastApiRequest)
+                                    .publishOn(Schedulers.boundedElastic())
+                                    .map(this::completeProcessing);
+                })
+                .onErrorResume(e -> Mono.just(failureResponse(request, e)))
+                .toFuture();
+    }
 
-            if (evaluationCriteria.isEmpty()) {
-                throw new RuntimeException("직무 '" + request.getJobRoleName() + "'에 대한 평가기준을 찾을 수 없습니다.");
-            }
+    private InterviewProcessingDto.FastApiRequest buildFastApiRequest(InterviewProcessingDto.ProcessingRequest request) {
+        log.info(" 면접 처리 시작: sessionId={}, jobRoleName={}, 지원자수={}",
+                request.getSessionId(), request.getJobRoleName(), request.getApplicantIds().size());
 
-            log.info(" 평가기준 조회 완료: {}개 키워드", evaluationCriteria.size());
+        // 1. 직무명으로 평가기준 조회 (캐시 우선)
+        Map<String, Map<String, String>> evaluationCriteria = getEvaluationCriteriaByJobRole(request.getJobRoleName());
 
-            // 2. FastAPI 요청 데이터 구성
-            InterviewProcessingDto.FastApiRequest fastApiRequest = InterviewProcessingDto.FastApiRequest.builder()
-                    .sessionId(request.getSessionId())
-                    .applicantIds(request.getApplicantIds())
-                    .applicantNames(request.getApplicantNames())
-                    .jobRoleName(request.getJobRoleName())
-                    .evaluationCriteria(evaluationCriteria)
-                    .rawStt(request.getRawStt())
-                    .build();
+        if (evaluationCriteria.isEmpty()) {
+            throw new RuntimeException("직무 '" + request.getJobRoleName() + "'에 대한 평가기준을 찾을 수 없습니다.");
+        }
 
-            // 3. FastAPI 호출 (트랜잭션 외부에서 실행)
-            log.info(" FastAPI 호출 시작: sessionId={}", request.getSessionId());
-            FastApiDto.PipelineResponse response = fastApiClient.callFullPipeline(fastApiRequest);
+        log.info(" 평가기준 조회 완료: {}개 키워드", evaluationCriteria.size());
+
+        // 2. FastAPI 요청 데이터 구성
+        return InterviewProcessingDto.FastApiRequest.builder()
+                .sessionId(request.getSessionId())
+                .applicantIds(request.getApplicantIds())
+                .applicantNames(request.getApplicantNames())
+                .jobRoleName(request.getJobRoleName())
+                .evaluationCriteria(evaluationCriteria)
+                .rawStt(request.getRawStt())
+                .build();
+    }
 
-            if (!response.isSuccess()) {
-                throw new RuntimeException("FastAPI 처리 실패: " + response.getMessage());
-            }
+    /**
+     * 스트리밍 수신 - 지원자 결과가 파싱되는 즉시 저장하고, 세션 상태는 응답이 끝난 뒤 저장
+     */
+    private Mono<InterviewProcessingDto.ProcessingResponse> processStreaming(
+            InterviewProcessingDto.FastApiRequest fastApiRequest) {
+        ProcessingResult result = new ProcessingResult();
+
+        return fastApiClient.callFullPipelineStreaming(fastApiRequest,
+                        applicantResult -> Mono.<Void>fromRunnable(() -> saveApplicantResults(List.of(applicantResult), result))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                .publishOn(Schedulers.boundedElastic())
+                .map(response -> {
+                    ensureSucceeded(response);
+                    saveSessionStatus(response);
+                    result.setTotalProcessed(result.getSuccessCount() + result.getFailureCount());
+
+                    log.info("DB 저장 완료: sessionId={}, 성공={}, 실패={}",
+                            response.getSessionId(), result.getSuccessCount(), result.getFailureCount());
+                    return toProcessingResponse(response, result);
+                });
+    }
+
+    /**
+     * 지원자별 분할 호출
+     * - 지원자마다 평가 대상만 1명으로 바꾼 요청을 maxConcurrency개까지 동시에 호출 (STT는 세션 전체 그대로 - 다른 지원자 발화도 문맥에 필요)
+     * - 일시적 장애(타임아웃/연결 실패/5xx)로 실패한 지원자만 maxAttempts까지 재시도 (FULL_PIPELINE 정책 재시도와 겹치지 않음),
+     *   끝까지 실패하면 실패 건수로 집계
+     * - 결과는 도착하는 즉시 저장하고 세션 상태는 모든 호출이 끝난 뒤 저장
+     * - 전체 소요 시간은 세션 전체 일괄 처리 대신 가장 느린 지원자 1명 처리 시간에 가까워짐
+     */
+    private Mono<InterviewProcessingDto.ProcessingResponse> processFanOut(
+            InterviewProcessingDto.FastApiRequest fastApiRequest) {
+        FastApiProperties.FanOut fanOut = fastApiProperties.getPipeline().getFanOut();
+        List<String> applicantIds = fastApiRequest.getApplicantIds();
+        ProcessingResult result = new ProcessingResult();
+        AtomicReference<FastApiDto.PipelineResponse> sessionSource = new AtomicReference<>();
+        long startedAt = System.nanoTime();
+
+        return Flux.range(0, applicantIds.size())
+                .flatMap(index -> callForApplicant(fastApiRequest, index, fanOut)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(response -> {
+                                    sessionSource.compareAndSet(null, response);
+                                    saveApplicantResults(response.getEvaluationResults(), result);
+                                })
+                                .onErrorResume(e -> {
+                                    result.incrementFailure();
+                                    log.error("지원자 처리 실패: applicantId={}, error={}",
+                                            applicantIds.get(index), e.getMessage());
+                                    return Mono.empty();
+                                }),
+                        fanOut.getMaxConcurrency())
+                .then(Mono.fromCallable(() -> {
+                    FastApiDto.PipelineResponse first = sessionSource.get();
+                    if (first == null) {
+                        throw new RuntimeException("모든 지원자 처리에 실패했습니다.");
+                    }
+                    saveSessionStatus(first);
+                    result.setTotalProcessed(applicantIds.size());
+
+                    log.info("DB 저장 완료: sessionId={}, 성공={}, 실패={}",
+                            fastApiRequest.getSessionId(), result.getSuccessCount(), result.getFailureCount());
+
+                    return InterviewProcessingDto.ProcessingResponse.builder()
+                            .success(true)
+                            .message(String.format("면접 처리가 완료되었습니다. (성공: %d명, 실패: %d명)",
+                                    result.getSuccessCount(), result.getFailureCount()))
+                            .sessionId(fastApiRequest.getSessionId())
+                            .totalProcessed(result.getTotalProcessed())
+                            .successfulCount(result.getSuccessCount())
+                            .failedCount(result.getFailureCount())
+                            .totalProcessingTime((System.nanoTime() - startedAt) / 1_000_000_000.0)
+                            .build();
+                }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Mono<FastApiDto.PipelineResponse> callForApplicant(InterviewProcessingDto.FastApiRequest fastApiRequest,
+                                                              int index, FastApiProperties.FanOut fanOut) {
+        String applicantId = fastApiRequest.getApplicantIds().get(index);
+        List<String> applicantNames = fastApiRequest.getApplicantNames();
+
+        InterviewProcessingDto.FastApiRequest single = InterviewProcessingDto.FastApiRequest.builder()
+                .sessionId(fastApiRequest.getSessionId())
+                .applicantIds(List.of(applicantId))
+                .applicantNames(applicantNames != null && index < applicantNames.size()
+                        ? Collections.singletonList(applicantNames.get(index)) : applicantNames)
+                .jobRoleName(fastApiRequest.getJobRoleName())
+                .evaluationCriteria(fastApiRequest.getEvaluationCriteria())
+                .rawStt(fastApiRequest.getRawStt())
+                .build();
+
+        // 재시도는 여기서 한 번만 (FULL_PIPELINE 정책 재시도는 끔 - 겹치면 지원자당 최대 시도 수가 곱해짐)
+        return Mono.defer(() -> fastApiClient.callFullPipelineAsync(single, throwable -> false))
+                .flatMap(response -> {
+                    if (!response.isSuccess() || response.getEvaluationResults() == null
+                            || response.getEvaluationResults().isEmpty()) {
+                        return Mono.error(new RuntimeException("FastAPI 처리 실패: " + response.getMessage()));
+                    }
+                    return Mono.just(response);
+                })
+                .retryWhen(Retry.backoff(Math.max(fanOut.getMaxAttempts() - 1, 0), fanOut.getRetryBackoff())
+                        // 타임아웃/연결 실패/5xx만 재시도 (4xx, success=false, 서킷 OPEN은 다시 보내도 같은 결과)
+                        .filter(FastApiCallPolicies::isTransient)
+                        .doBeforeRetry(signal -> log.warn("지원자 재시도: applicantId={}, attempt={}, error={}",
+                                applicantId, signal.totalRetries() + 2, signal.failure().getMessage())));
+    }
 
-            log.info(" FastAPI 처리 완료: 성공 {}명, 실패 {}명",
-                    response.getSuccessfulCount(), response.getFailedCount());
+    private InterviewProcessingDto.ProcessingResponse completeProcessing(FastApiDto.PipelineResponse response) {
+        ensureSucceeded(response);
 
-            // 4. 응답 데이터를 DB에 저장 (개별 트랜잭션으로 처리)
-            ProcessingResult result = saveProcessingResults(response);
+        // 4. 응답 데이터를 DB에 저장 (개별 트랜잭션으로 처리)
+        ProcessingResult result = saveProcessingResults(response);
 
-            // 5. 응답 반환
-            return InterviewProcessingDto.ProcessingResponse.builder()
-                    .success(true)
-                    .message(String.format("면접 처리가 완료되었습니다. (성공: %d명, 실패: %d명)",
-                            result.getSuccessCount(), result.getFailureCount()))
-                    .sessionId(response.getSessionId())
-                    .totalProcessed(result.getTotalProcessed())
-                    .successfulCount(result.getSuccessCount())
-                    .failedCount(result.getFailureCount())
-                    .totalProcessingTime(response.getTotalProcessingTime())
-                    .build();
+        // 5. 응답 반환
+        return toProcessingResponse(response, result);
+    }
 
-        } catch (Exception e) {
-            log.error(" 면접 처리 실패: sessionId={}, error={}", request.getSessionId(), e.getMessage(), e);
-
-            return InterviewProcessingDto.ProcessingResponse.builder()
-                    .success(false)
-                    .message("면접 처리 중 오류가 발생했습니다: " + e.getMessage())
-                    .sessionId(request.getSessionId())
-                    .totalProcessed(0)
-                    .successfulCount(0)
-                    .failedCount(0)
-                    .totalProcessingTime(0.0)
-                    .build();
+    private void ensureSucceeded(FastApiDto.PipelineResponse response) {
+        if (!response.isSuccess()) {
+            throw new RuntimeException("FastAPI 처리 실패: " + response.getMessage());
         }
+
+        log.info(" FastAPI 처리 완료: 성공 {}명, 실패 {}명",
+                response.getSuccessfulCount(), response.getFailedCount());
+    }
+
+    private InterviewProcessingDto.ProcessingResponse toProcessingResponse(FastApiDto.PipelineResponse response,
+                                                                           ProcessingResult result) {
+        return InterviewProcessingDto.ProcessingResponse.builder()
+                .success(true)
+                .message(String.format("면접 처리가 완료되었습니다. (성공: %d명, 실패: %d명)",
+                        result.getSuccessCount(), result.getFailureCount()))
+                .sessionId(response.getSessionId())
+                .totalProcessed(result.getTotalProcessed())
+                .successfulCount(result.getSuccessCount())
+                .failedCount(result.getFailureCount())
+                .totalProcessingTime(response.getTotalProcessingTime())
+                .build();
+    }
+
+    private InterviewProcessingDto.ProcessingResponse failureResponse(
+            InterviewProcessingDto.ProcessingRequest request, Throwable e) {
+        log.error(" 면접 처리 실패: sessionId={}, error={}", request.getSessionId(), e.getMessage(), e);
+
+        return InterviewProcessingDto.ProcessingResponse.builder()
+                .success(false)
+                .message("면접 처리 중 오류가 발생했습니다: " + e.getMessage())
+                .sessionId(request.getSessionId())
+                .totalProcessed(0)
+                .successfulCount(0)
+                .failedCount(0)
+                .totalProcessingTime(0.0)
+                .build();
     }
 
     /**
-     * 직무명으로 DB에서 평가기준 조회 (읽기 전용 트랜잭션)
+     * 직무명으로 평가기준 조회 (EvaluationCriteriaCache 적중 시 DB 조회 없음)
      */
-    @Transactional(readOnly = true)
     public Map<String, Map<String, String>> getEvaluationCriteriaByJobRole(String jobRoleName) {
+        return evaluationCriteriaCache.get(jobRoleName, this::loadEvaluationCriteria);
+    }
+
+    /**
+     * 직무명으로 DB에서 평가기준 조회
+     */
+    private Map<String, Map<String, String>> loadEvaluationCriteria(String jobRoleName) {
         try {
             log.info(" 평가기준 조회 시작: jobRoleName={}", jobRoleName);
 
@@ -144,37 +294,22 @@ public class InterviewProcessingService {
     }
 
     /**
-     * FastAPI 응답을 데이터베이스에 저장 (각각 독립적인 트랜잭션)
+     * FastAPI 응답을 데이터베이스에 저장 (트랜잭션은 PipelineResultWriter가 단계별로 관리)
+     * - 지원자 결과는 한 트랜잭션에서 일괄 저장
+     * - 일괄 저장이 실패하면 지원자별 개별 트랜잭션으로 다시 저장 (한 명의 실패가 다른 지원자 저장을 막지 않음)
      */
     private ProcessingResult saveProcessingResults(FastApiDto.PipelineResponse response) {
         log.info(" DB 저장 시작: sessionId={}", response.getSessionId());
 
         ProcessingResult result = new ProcessingResult();
 
-        try {
-            // 1. 세션 정보 업데이트 (독립적인 트랜잭션)
-            updateSessionStatus(response);
-            log.info("세션 상태 업데이트 완료: sessionId={}", response.getSessionId());
-        } catch (Exception e) {
-            log.error("세션 상태 업데이트 실패: sessionId={}, error={}", response.getSessionId(), e.getMessage());
-            // 세션 업데이트 실패해도 지원자 저장은 계속 진행
-        }
+        // 1. 세션 정보 업데이트 (독립적인 트랜잭션)
+        saveSessionStatus(response);
 
-        // 2. 지원자별 결과 저장 (각각 독립적인 트랜잭션)
+        // 2. 지원자 결과 일괄 저장
         List<FastApiDto.ApplicantResult> results = response.getEvaluationResults();
         result.setTotalProcessed(results.size());
-
-        for (FastApiDto.ApplicantResult applicantResult : results) {
-            try {
-                saveApplicantResult(applicantResult);
-                result.incrementSuccess();
-                log.info("지원자 저장 완료: applicantId={}", applicantResult.getApplicantId());
-            } catch (Exception e) {
-                result.incrementFailure();
-                log.error("지원자 저장 실패: applicantId={}, error={}",
-                        applicantResult.getApplicantId(), e.getMessage(), e);
-            }
-        }
+        saveApplicantResults(results, result);
 
         log.info("DB 저장 완료: sessionId={}, 성공={}, 실패={}",
                 response.getSessionId(), result.getSuccessCount(), result.getFailureCount());
@@ -182,160 +317,39 @@ public class InterviewProcessingService {
         return result;
     }
 
-    /**
-     * 세션 상태 업데이트 (새로운 트랜잭션)
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void updateSessionStatus(FastApiDto.PipelineResponse response) {
-        Optional<Session> sessionOpt = sessionRepository.findById(response.getSessionId());
-        if (sessionOpt.isPresent()) {
-            Session session = sessionOpt.get();
-            session.setSessionStatus(Session.SessionStatus.COMPLETED);
-            session.setRawDataPath(response.getRawSttS3Path());
-            sessionRepository.save(session);
-
-            log.debug("세션 저장 완료: sessionId={}, status={}",
-                    response.getSessionId(), session.getSessionStatus());
-        } else {
-            throw new RuntimeException("세션을 찾을 수 없습니다: " + response.getSessionId());
-        }
-    }
-
-    /**
-     * 개별 지원자 결과 저장 (새로운 트랜잭션)
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveApplicantResult(FastApiDto.ApplicantResult result) {
-        // 1. 지원자 정보 업데이트
-        Optional<Applicant> applicantOpt = applicantRepository.findById(result.getApplicantId());
-        if (applicantOpt.isEmpty()) {
-            throw new RuntimeException("지원자를 찾을 수 없습니다: " + result.getApplicantId());
+    private void saveSessionStatus(FastApiDto.PipelineResponse response) {
+        try {
+            pipelineResultWriter.writeSession(response);
+            log.info("세션 상태 업데이트 완료: sessionId={}", response.getSessionId());
+        } catch (Exception e) {
+            log.error("세션 상태 업데이트 실패: sessionId={}, error={}", response.getSessionId(), e.getMessage());
+            // 세션 업데이트 실패해도 지원자 저장은 계속 진행
         }
-
-        Applicant applicant = applicantOpt.get();
-
-        // 기본 정보 업데이트
-        applicant.setInterviewStatus(InterviewStatus.COMPLETED);
-        applicant.setCompletedAt(LocalDateTime.now());
-        applicant.setIndividualPdfPath(result.getPdfS3Path());
-        applicant.setIndividualQnaPath(result.getQnaS3Path());
-
-        // 평가 정보 추출 및 저장
-        updateApplicantEvaluationData(applicant, result.getEvaluationJson());
-
-        applicantRepository.save(applicant);
-        log.debug(" 지원자 기본 정보 저장: applicantId={}", result.getApplicantId());
-
-        // 2. 키워드별 점수 저장
-        saveKeywordScores(result);
-        log.debug(" 키워드 점수 저장 완료: applicantId={}", result.getApplicantId());
     }
 
     /**
-     * 지원자 평가 데이터 업데이트
+     * 지원자 결과 저장 - 한 트랜잭션으로 일괄 저장, 실패 시 지원자별 개별 트랜잭션으로 재시도
      */
-    private void updateApplicantEvaluationData(Applicant applicant, Map<String, Object> evaluationJson) {
-        if (evaluationJson == null || evaluationJson.containsKey("error")) {
-            log.warn(" 평가 데이터가 없거나 오류 포함: applicantId={}", applicant.getApplicantId());
-            return;
-        }
-
+    private void saveApplicantResults(List<FastApiDto.ApplicantResult> results, ProcessingResult result) {
         try {
-            // 총점 저장
-            Object evaluationSummary = evaluationJson.get("evaluation_summary");
-            if (evaluationSummary instanceof Map) {
-                Map<String, Object> summary = (Map<String, Object>) evaluationSummary;
-                Object totalScore = summary.get("total_score");
-                if (totalScore instanceof Number) {
-                    applicant.setTotalScore(((Number) totalScore).floatValue());
-                    log.debug(" 총점 저장: applicantId={}, score={}",
-                            applicant.getApplicantId(), applicant.getTotalScore());
-                }
-            }
-
-            // 면접 요약 저장
-            Object interviewSummary = evaluationJson.get("interview_summary");
-            if (interviewSummary instanceof String) {
-                applicant.setTotalComment((String) interviewSummary);
-            }
-
-            // 추가 질문 저장
-            Object nextQuestions = evaluationJson.get("next_questions");
-            if (nextQuestions instanceof String) {
-                applicant.setNextCheckpoint((String) nextQuestions);
-            }
-
+            PipelineResultWriter.WriteResult written = pipelineResultWriter.writeApplicants(results);
+            result.add(written.getSuccessCount(), written.getFailureCount());
         } catch (Exception e) {
-            log.error("평가 데이터 처리 실패: applicantId={}, error={}",
-                    applicant.getApplicantId(), e.getMessage());
-        }
-    }
-
-
-     // 키워드별 점수 저장
-
-    private void saveKeywordScores(FastApiDto.ApplicantResult result) {
-        try {
-            Map<String, Object> evaluationJson = result.getEvaluationJson();
-            if (evaluationJson == null || evaluationJson.containsKey("error")) {
-                return;
-            }
-
-            Object detailedEvaluation = evaluationJson.get("detailed_evaluation");
-            if (!(detailedEvaluation instanceof Map)) {
-                return;
-            }
-
-            Map<String, Object> detailed = (Map<String, Object>) detailedEvaluation;
-            List<ApplicantKeywordScore> keywordScores = new ArrayList<>();
-
-            for (Map.Entry<String, Object> entry : detailed.entrySet()) {
-                String keywordName = entry.getKey();
-                Object keywordData = entry.getValue();
-
-                if (!(keywordData instanceof Map)) {
-                    continue;
-                }
-
-                Map<String, Object> keywordEval = (Map<String, Object>) keywordData;
-
-                // 키워드 엔티티 조회 (개별 조회 - 호환성 보장)
-                Optional<Keyword> keywordOpt = keywordRepository.findByKeywordName(keywordName);
-                if (keywordOpt.isEmpty()) {
-                    log.warn(" 키워드를 찾을 수 없습니다: {}", keywordName);
-                    continue;
-                }
-
-                Keyword keyword = keywordOpt.get();
-                Object finalScore = keywordEval.get("final_score");
-                Object scoreRationale = keywordEval.get("score_rationale");
-
-                if (finalScore instanceof Number) {
-                    ApplicantKeywordScore score = new ApplicantKeywordScore();
-                    score.setApplicantId(result.getApplicantId());
-                    score.setKeywordId(keyword.getKeywordId());
-                    score.setApplicantScore(((Number) finalScore).intValue());
-                    score.setScoreComment(scoreRationale != null ? scoreRationale.toString() : "");
-
-                    keywordScores.add(score);
-
-                    log.debug(" 키워드 점수 준비: {} - {}점", keywordName, score.getApplicantScore());
+            log.warn("지원자 일괄 저장 실패, 개별 저장으로 전환: 지원자 {}명, error={}",
+                    results.size(), e.getMessage());
+
+            // 3. 지원자별 결과 저장 (각각 독립적인 트랜잭션)
+            for (FastApiDto.ApplicantResult applicantResult : results) {
+                try {
+                    pipelineResultWriter.writeApplicant(applicantResult);
+                    result.incrementSuccess();
+                    log.info("지원자 저장 완료: applicantId={}", applicantResult.getApplicantId());
+                } catch (Exception ex) {
+                    result.incrementFailure();
+                    log.error("지원자 저장 실패: applicantId={}, error={}",
+                            applicantResult.getApplicantId(), ex.getMessage(), ex);
                 }
             }
-
-            // 일괄 저장
-            if (!keywordScores.isEmpty()) {
-                applicantKeywordScoreRepository.saveAll(keywordScores);
-                log.debug(" 키워드 점수 일괄 저장: applicantId={}, count={}",
-                        result.getApplicantId(), keywordScores.size());
-            } else {
-                log.warn(" 저장할 키워드 점수가 없습니다: applicantId={}", result.getApplicantId());
-            }
-
-        } catch (Exception e) {
-            log.error("키워드 점수 저장 실패: applicantId={}, error={}",
-                    result.getApplicantId(), e.getMessage());
-            throw e; // 트랜잭션 롤백을 위해 예외 재발생
         }
     }
 
@@ -347,13 +361,19 @@ public class InterviewProcessingService {
         private int successCount = 0;
         private int failureCount = 0;
 
-        public void incrementSuccess() { successCount++; }
-        public void incrementFailure() { failureCount++; }
+        // 분할 호출 시 여러 스레드에서 동시에 집계
+        public synchronized void incrementSuccess() { successCount++; }
+        public synchronized void incrementFailure() { failureCount++; }
+
+        public synchronized void add(int success, int failure) {
+            successCount += success;
+            failureCount += failure;
+        }
 
         // Getters and setters
         public int getTotalProcessed() { return totalProcessed; }
         public void setTotalProcessed(int totalProcessed) { this.totalProcessed = totalProcessed; }
-        public int getSuccessCount() { return successCount; }
-        public int getFailureCount() { return failureCount; }
+        public synchronized int getSuccessCount() { return successCount; }
+        public synchronized int getFailureCount() { return failureCount; }
     }
 }
\ No newline at end of file
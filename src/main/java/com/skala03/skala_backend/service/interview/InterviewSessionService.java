@@ -1,19 +1,18 @@
 package com.skala03.skala_backend.service.interview;
 
-import com.skala03.skala_backend.entity.admin.Keyword;
 import com.skala03.skala_backend.entity.applicant.Applicant;
 import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScore;
 import com.skala03.skala_backend.entity.interview.InterviewContent;
 import com.skala03.skala_backend.entity.interview.RoomParticipant;
 import com.skala03.skala_backend.entity.interview.Session;
-import com.skala03.skala_backend.repository.admin.KeywordRepository;
 import com.skala03.skala_backend.repository.applicant.ApplicantKeywordScoreRepository;
 import com.skala03.skala_backend.repository.applicant.ApplicantRepository;
 import com.skala03.skala_backend.repository.interview.InterviewContentRepository;
-import com.skala03.skala_backend.repository.interview.RoomParticipantRepository;
 import com.skala03.skala_backend.repository.interview.SessionRepository;
+import com.skala03.skala_backend.service.admin.KeywordDictionary;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -23,9 +22,6 @@ import java.util.stream.Collectors;
 @Transactional
 public class InterviewSessionService {
 
-    @Autowired
-    private RoomParticipantRepository roomParticipantRepository;
-
     @Autowired
     private SessionRepository sessionRepository;
 
@@ -38,16 +34,24 @@ public class InterviewSessionService {
     private ApplicantKeywordScoreRepository applicantKeywordScoreRepository;
 
     @Autowired
-    private KeywordRepository keywordRepository;
+    private KeywordDictionary keywordDictionary;
+
+    @Autowired
+    private RoomPresenceRegistry roomPresenceRegistry;
+
+    @Autowired
+    private SessionStateMachine sessionStateMachine;
 
      // 세션 리스트 화면 입장 (offline → waiting)
 
     public void enterSessionList(String roomId, String userId) {
-        RoomParticipant participant = roomParticipantRepository.findByRoomIdAndUserId(roomId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 방의 참가자를 찾을 수 없습니다."));
+        roomPresenceRegistry.updateStatus(roomId, userId, RoomParticipant.ParticipantStatus.WAITING);
+    }
 
-        participant.updateStatus(RoomParticipant.ParticipantStatus.WAITING);
-        roomParticipantRepository.save(participant);
+     // heartbeat (응답이 끊긴 참가자는 presence.ttl 후 OFFLINE 처리)
+
+    public void heartbeat(String roomId, String userId) {
+        roomPresenceRegistry.heartbeat(roomId, userId);
     }
 
     /**
@@ -55,11 +59,11 @@ public class InterviewSessionService {
      */
     public boolean startInterview(String roomId, Integer sessionId, String leaderUserId) {
         // 1. 방장 권한 확인
-        RoomParticipant leader = roomParticipantRepository
-                .findByRoomIdAndUserId(roomId, leaderUserId)
+        RoomPresenceRegistry.ParticipantState leader = roomPresenceRegistry
+                .find(roomId, leaderUserId)
                 .orElseThrow(() -> new IllegalArgumentException("방장을 찾을 수 없습니다."));
 
-        if (leader.getParticipantRole() != RoomParticipant.ParticipantRole.LEADER) {
+        if (leader.getRole() != RoomParticipant.ParticipantRole.LEADER) {
             throw new IllegalStateException("방장만 면접을 시작할 수 있습니다.");
         }
 
@@ -67,31 +71,27 @@ public class InterviewSessionService {
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다."));
 
-        // 3. 해당 세션의 면접관들만 확인
-        List<String> interviewerIds = parseUserIds(session.getInterviewersUserId());
-        List<RoomParticipant> sessionInterviewers = interviewerIds.stream()
-                .map(userId -> roomParticipantRepository.findByRoomIdAndUserId(roomId, userId))
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        // 3. 해당 세션의 면접관들만 확인 (메모리 조회)
+        // 상태 전이 UPDATE가 영속성 컨텍스트를 비우므로 목록은 미리 복사해 둠
+        List<String> interviewerIds = new ArrayList<>(session.getInterviewerIds());
+        List<RoomPresenceRegistry.ParticipantState> sessionInterviewers =
+                roomPresenceRegistry.findAll(roomId, interviewerIds);
 
         // 4. 모든 면접관이 WAITING 상태인지 확인
         boolean allWaiting = sessionInterviewers.stream()
-                .allMatch(p -> p.getParticipantStatus() == RoomParticipant.ParticipantStatus.WAITING);
+                .allMatch(p -> p.getStatus() == RoomParticipant.ParticipantStatus.WAITING);
 
         if (!allWaiting) {
             return false; // 조건 불만족
         }
 
-        // 5. 모든 면접관 상태를 IN_PROGRESS로 변경
-        sessionInterviewers.forEach(p ->
-                p.updateStatus(RoomParticipant.ParticipantStatus.IN_PROGRESS)
-        );
-        roomParticipantRepository.saveAll(sessionInterviewers);
+        // 5. 세션 상태 변경 (조건부 UPDATE - 동시에 눌러도 한 요청만 성공)
+        if (!sessionStateMachine.tryTransition(sessionId, SessionStateMachine.Transition.START_INTERVIEW)) {
+            return false; // 이미 시작되었거나 종료된 세션
+        }
 
-        // 6. 세션 상태 변경
-        session.setSessionStatus(Session.SessionStatus.WAITING);
-        sessionRepository.save(session);
+        // 6. 모든 면접관 상태를 IN_PROGRESS로 변경 (DB에는 비동기로 모아서 기록)
+        roomPresenceRegistry.updateStatuses(roomId, interviewerIds, RoomParticipant.ParticipantStatus.IN_PROGRESS);
 
         return true; // 성공
     }
@@ -120,17 +120,17 @@ public class InterviewSessionService {
     }
 
      // 참가자 상태 조회 - Map으로 직접 반환 (세션ID 포함)
+     // 상태/세션ID 모두 메모리에서 조회, 조회 자체를 heartbeat로 취급
 
     public Map<String, Object> getParticipantStatus(String roomId, String userId) {
-        RoomParticipant participant = roomParticipantRepository.findByRoomIdAndUserId(roomId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("참가자를 찾을 수 없습니다."));
+        RoomPresenceRegistry.ParticipantState participant = roomPresenceRegistry.heartbeat(roomId, userId);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("status", participant.getParticipantStatus());
+        result.put("status", participant.getStatus());
         result.put("lastPingAt", participant.getLastPingAt());
 
         //  세션ID 추가
-        Integer sessionId = sessionRepository.findCurrentSessionIdByRoomAndUser(roomId, userId)
+        Integer sessionId = roomPresenceRegistry.currentSessionId(roomId, userId)
                 .orElse(null);
         result.put("sessionId", sessionId);
 
@@ -141,101 +141,51 @@ public class InterviewSessionService {
      // 면접 종료
 
     public void endInterview(String roomId, Integer sessionId) {
-        // 세션 상태 변경
         Session session = sessionRepository.findById(sessionId)
                 .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다."));
-        session.setSessionStatus(Session.SessionStatus.COMPLETED);
-        sessionRepository.save(session);
+        List<String> interviewerIds = new ArrayList<>(session.getInterviewerIds());
+
+        // 세션 상태 변경 (이미 COMPLETED면 변경 없음)
+        sessionStateMachine.tryTransition(sessionId, SessionStateMachine.Transition.END_INTERVIEW);
 
         // 참가자들 상태를 WAITING으로 변경
-        List<String> interviewerIds = parseUserIds(session.getInterviewersUserId());
-        interviewerIds.forEach(userId -> {
-            roomParticipantRepository.findByRoomIdAndUserId(roomId, userId)
-                    .ifPresent(participant -> {
-                        participant.updateStatus(RoomParticipant.ParticipantStatus.WAITING);
-                        roomParticipantRepository.save(participant);
-                    });
-        });
+        roomPresenceRegistry.updateStatuses(roomId, interviewerIds, RoomParticipant.ParticipantStatus.WAITING);
     }
 
 
      // 세션 종료
 
     public void endSession(String roomId, String userId) {
-        RoomParticipant participant = roomParticipantRepository.findByRoomIdAndUserId(roomId, userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 방의 참가자를 찾을 수 없습니다."));
-
-        participant.updateStatus(RoomParticipant.ParticipantStatus.OFFLINE);
-        roomParticipantRepository.save(participant);
+        roomPresenceRegistry.updateStatus(roomId, userId, RoomParticipant.ParticipantStatus.OFFLINE);
     }
 
      // 세션 상태를 IN_PROGRESS로 변경
 
-    @Transactional
+    // 상태 확인과 변경을 UPDATE 한 문장으로 처리하므로 세션 조회/읽기-쓰기 트랜잭션을 잡지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> updateSessionToInProgress(Integer sessionId) {
-
-
-        Optional<Session> sessionOpt = sessionRepository.findById(sessionId);
-
-        if (sessionOpt.isEmpty()) {
-
-            throw new RuntimeException("세션을 찾을 수 없습니다: " + sessionId);
-        }
-
-        Session session = sessionOpt.get();
-
-        // 상태 검증 (SCHEDULED 또는 WAITING만 IN_PROGRESS로 변경 가능)
-        if (session.getSessionStatus() != Session.SessionStatus.SCHEDULED &&
-                session.getSessionStatus() != Session.SessionStatus.WAITING) {
-
-            throw new IllegalStateException("현재 상태에서는 면접을 시작할 수 없습니다: " + session.getSessionStatus());
-        }
-
-        // 상태 변경
-        session.setSessionStatus(Session.SessionStatus.IN_PROGRESS);
-        sessionRepository.save(session);
+        // SCHEDULED 또는 WAITING만 IN_PROGRESS로 변경 가능
+        sessionStateMachine.transition(sessionId, SessionStateMachine.Transition.MARK_IN_PROGRESS);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("sessionStatus", session.getSessionStatus().name());
+        result.put("sessionStatus", Session.SessionStatus.IN_PROGRESS.name());
         result.put("message", "세션이 성공적으로 시작되었습니다.");
 
-
-
         return result;
     }
 
 
      // 세션 상태를 COMPLETED로 변경
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Map<String, Object> updateSessionToCompleted(Integer sessionId) {
-
-
-        Optional<Session> sessionOpt = sessionRepository.findById(sessionId);
-
-        if (sessionOpt.isEmpty()) {
-
-            throw new RuntimeException("세션을 찾을 수 없습니다: " + sessionId);
-        }
-
-        Session session = sessionOpt.get();
-
-        // 상태 검증 (IN_PROGRESS만 COMPLETED로 변경 가능)
-        if (session.getSessionStatus() != Session.SessionStatus.WAITING) {
-
-            throw new IllegalStateException("진행 중인 세션만 완료할 수 있습니다: " + session.getSessionStatus());
-        }
-
-        // 상태 변경
-        session.setSessionStatus(Session.SessionStatus.COMPLETED);
-        sessionRepository.save(session);
+        // 진행 중(WAITING / IN_PROGRESS)인 세션만 COMPLETED로 변경 가능
+        sessionStateMachine.transition(sessionId, SessionStateMachine.Transition.COMPLETE);
 
         Map<String, Object> result = new HashMap<>();
-        result.put("sessionStatus", session.getSessionStatus().name());
+        result.put("sessionStatus", Session.SessionStatus.COMPLETED.name());
         result.put("message", "세션이 성공적으로 완료되었습니다.");
 
-
-
         return result;
     }
 
@@ -277,19 +227,6 @@ public class InterviewSessionService {
     // ================================
 
 
-     // "sk-01,sk-02,sk-03" 형태의 문자열을 List로 파싱
-
-    private List<String> parseUserIds(String userIdsString) {
-        if (userIdsString == null || userIdsString.trim().isEmpty()) {
-            return List.of();
-        }
-        return Arrays.stream(userIdsString.split(","))
-                .map(String::trim)
-                .filter(id -> !id.isEmpty())
-                .collect(Collectors.toList());
-    }
-
-
     // ============================================
     // 지원자 평가 정보 조회 메서드들
     // ============================================
@@ -346,14 +283,12 @@ public class InterviewSessionService {
         List<Map<String, Object>> evaluations = new ArrayList<>();
 
         for (ApplicantKeywordScore score : keywordScores) {
-            // 키워드 정보 조회
-            Optional<Keyword> keywordOpt = keywordRepository.findById(score.getKeywordId());
-
-            if (keywordOpt.isPresent()) {
-                Keyword keyword = keywordOpt.get();
+            // 키워드명 조회 (키워드 사전 - DB 접근 없음)
+            Optional<String> keywordName = keywordDictionary.findName(score.getKeywordId());
 
+            if (keywordName.isPresent()) {
                 Map<String, Object> evaluation = new HashMap<>();
-                evaluation.put("keyword", keyword.getKeywordName()); // 키워드명
+                evaluation.put("keyword", keywordName.get()); // 키워드명
                 evaluation.put("score", score.getApplicantScore());   // 점수
                 evaluation.put("content", score.getScoreComment());   // 코멘트
                 evaluations.add(evaluation);
@@ -370,14 +305,4 @@ public class InterviewSessionService {
         result.put("totalComment", applicant.getTotalComment()); //  totalComment 추가
         return result;
     }
-
-    private boolean checkIfAllInterviewersWaiting(String roomId, List<String> interviewerIds) {
-        return interviewerIds.stream()
-                .allMatch(userId -> {
-                    Optional<RoomParticipant> participant =
-                            roomParticipantRepository.findByRoomIdAndUserId(roomId, userId);
-                    return participant.isPresent() &&
-                            participant.get().getParticipantStatus() == RoomParticipant.ParticipantStatus.WAITING;
-                });
-    }
 }
\ No newline at end of file
@@ -28,10 +28,12 @@ public class InterviewerService {
     private final UserRepository userRepository;
     private final InterviewRoomRepository interviewRoomRepository;
     private final RoomParticipantRepository roomParticipantRepository;
+    private final RoomPresenceRegistry roomPresenceRegistry;
 
 
-     // 면접관이 참여하는 룸별 정보 조회
+     // 면접관이 참여하는 룸별 정보 조회 (session_interviewers 인덱스 조회)
 
+    @Transactional(readOnly = true)
     public InterviewerResponse getRoomsForInterviewer(String userId) {
 
         List<Session> sessions = sessionRepository.findByUserIdInInterviewers(userId);
@@ -56,12 +58,8 @@ public class InterviewerService {
                 // 첫 번째 세션의 면접관 정보 사용 (모든 세션의 면접관이 동일)
                 List<InterviewerResponse.Interviewer> interviewers = new ArrayList<>();
 
-                if (!roomSessions.isEmpty() && roomSessions.get(0).getInterviewersUserId() != null) {
-                    String[] interviewerIds = roomSessions.get(0).getInterviewersUserId().split(",");
-
-                    interviewers = Arrays.stream(interviewerIds)
-                            .map(String::trim)
-                            .filter(id -> !id.isEmpty())
+                if (!roomSessions.isEmpty()) {
+                    interviewers = roomSessions.get(0).getInterviewerIds().stream()
                             .map(id -> {
                                 User user = userRepository.findById(id).orElse(null);
                                 if (user != null) {
@@ -178,18 +176,17 @@ public class InterviewerService {
             throw new IllegalArgumentException("유효하지 않은 상태값입니다. (OFFLINE, WAITING, IN_PROGRESS만 가능)");
         }
 
-        // 2. 해당 사용자의 모든 룸 참가 정보 조회 후 상태 변경
+        // 2. 해당 사용자가 참가한 룸 조회
         List<RoomParticipant> participants = roomParticipantRepository.findByUserId(userId);
 
         if (participants.isEmpty()) {
             throw new IllegalArgumentException("해당 사용자의 참가 정보를 찾을 수 없습니다.");
         }
 
-        // 3. 모든 룸에서의 상태 업데이트
+        // 3. 모든 룸에서의 상태 업데이트 (presence 경유, DB에는 비동기로 기록)
         for (RoomParticipant participant : participants) {
-            participant.updateStatus(status);
+            roomPresenceRegistry.updateStatus(participant.getRoomId(), userId, status);
         }
-        roomParticipantRepository.saveAll(participants);
 
         return "면접관 상태가 " + status.name() + "로 변경되었습니다.";
     }
@@ -0,0 +1,148 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.dto.interview.TranscriptionDto;
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+import com.skala03.skala_backend.entity.interview.TranscriptionJob;
+import com.skala03.skala_backend.repository.interview.TranscriptionJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 전사 작업 DB 저장소 (2차 저장소)
+ * - 서버 재시작/다른 인스턴스에서도 전사 결과 조회 가능
+ * - retention이 지난 작업은 주기적으로 삭제
+ * - staleProcessingTimeout 동안 갱신되지 않은 processing 작업은 failed로 정리 (재시작으로 유실된 작업)
+ * - 처리 중인 인스턴스는 processing 작업의 updatedAt을 주기적으로 갱신(touch)
+ *   processingTimeout 동안 갱신이 끊긴 작업은 처리할 인스턴스가 없는 작업으로 보고
+ *   중복 업로드에 연결하지 않고, orphanSweepInterval마다 failed로 정리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JpaTranscriptionJobStore implements TranscriptionJobStore {
+
+    private static final TypeReference<List<TranscriptionDto.Utterance>> UTTERANCE_LIST = new TypeReference<>() {};
+
+    private final TranscriptionJobRepository transcriptionJobRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transcription.store.retention:90d}")
+    private Duration retention;
+
+    @Value("${transcription.store.stale-processing-timeout:6h}")
+    private Duration staleProcessingTimeout;
+
+    @Value("${transcription.store.processing-timeout:3m}")
+    private Duration processingTimeout;
+
+    @Override
+    public void save(TranscriptionJobRecord record) {
+        TranscriptionJob job = new TranscriptionJob();
+        job.setTranscriptionId(record.getTranscriptionId());
+        job.setContentKey(record.getContentKey());
+        job.setStatus(record.getStatus());
+        job.setResultJson(writeUtterances(record.getUtterances()));
+        job.setErrorMessage(record.getErrorMessage());
+        job.setCreatedAt(record.getCreatedAt());
+        job.setUpdatedAt(record.getUpdatedAt());
+        transcriptionJobRepository.save(job);
+    }
+
+    @Override
+    public Optional<TranscriptionJobRecord> find(String transcriptionId) {
+        return transcriptionJobRepository.findById(transcriptionId).map(this::toRecord);
+    }
+
+    @Override
+    public Optional<TranscriptionJobRecord> findReusableByContentKey(String contentKey) {
+        LocalDateTime aliveSince = LocalDateTime.now().minus(processingTimeout);
+        return transcriptionJobRepository.findReusable(contentKey, aliveSince, PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(this::toRecord);
+    }
+
+    @Override
+    public void touch(Collection<String> transcriptionIds) {
+        if (transcriptionIds.isEmpty()) {
+            return;
+        }
+        transcriptionJobRepository.touchProcessing(transcriptionIds, LocalDateTime.now());
+    }
+
+    @Override
+    public void delete(String transcriptionId) {
+        transcriptionJobRepository.deleteById(transcriptionId);
+    }
+
+    @Scheduled(cron = "${transcription.store.cleanup-cron:0 30 3 * * *}")
+    public void cleanup() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int failed = transcriptionJobRepository.failStaleProcessing(
+                now.minus(staleProcessingTimeout), "전사 작업이 중단되었습니다. 다시 업로드해주세요.", now);
+        int deleted = transcriptionJobRepository.deleteUpdatedBefore(now.minus(retention));
+
+        log.info("전사 작업 정리 완료 - 중단 처리: {}건, 삭제: {}건", failed, deleted);
+    }
+
+    /**
+     * 갱신이 끊긴 processing 작업 정리 (재시작/장애로 처리하던 인스턴스가 사라진 작업)
+     * 시작 직후에도 한 번 실행되어 재시작 전에 남은 작업을 정리
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${transcription.store.orphan-sweep-interval:1m}")
+    public void failOrphanedProcessing() {
+        LocalDateTime now = LocalDateTime.now();
+        int failed = transcriptionJobRepository.failStaleProcessing(
+                now.minus(processingTimeout), "전사 작업이 중단되었습니다. 다시 업로드해주세요.", now);
+        if (failed > 0) {
+            log.warn("처리 인스턴스가 없는 전사 작업 {}건 실패 처리", failed);
+        }
+    }
+
+    private TranscriptionJobRecord toRecord(TranscriptionJob job) {
+        return TranscriptionJobRecord.builder()
+                .transcriptionId(job.getTranscriptionId())
+                .contentKey(job.getContentKey())
+                .status(job.getStatus())
+                .utterances(readUtterances(job.getResultJson()))
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    private String writeUtterances(List<TranscriptionDto.Utterance> utterances) {
+        if (utterances == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(utterances);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("전사 결과 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private List<TranscriptionDto.Utterance> readUtterances(String resultJson) {
+        if (resultJson == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(resultJson, UTTERANCE_LIST);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("전사 결과 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
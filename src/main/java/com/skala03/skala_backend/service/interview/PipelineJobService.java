@@ -0,0 +1,68 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
+import com.skala03.skala_backend.dto.interview.PipelineJobDto;
+import com.skala03.skala_backend.entity.interview.PipelineJob;
+import com.skala03.skala_backend.global.config.PipelineJobProperties;
+import com.skala03.skala_backend.repository.interview.PipelineJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 면접 파이프라인 작업 등록/조회
+ * 등록된 작업은 PipelineJobWorker가 DB에서 가져가 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PipelineJobService {
+
+    private final PipelineJobRepository pipelineJobRepository;
+    private final PipelineJobProperties pipelineJobProperties;
+    private final ObjectMapper objectMapper;
+
+    public String enqueue(InterviewProcessingDto.ProcessingRequest request) {
+        LocalDateTime now = LocalDateTime.now();
+
+        PipelineJob job = new PipelineJob();
+        job.setJobId(UUID.randomUUID().toString());
+        job.setSessionId(request.getSessionId());
+        job.setStatus(PipelineJob.Status.QUEUED);
+        job.setRequestJson(writeRequest(request));
+        job.setMaxAttempts(pipelineJobProperties.getMaxAttempts());
+        job.setNextAttemptAt(now);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        pipelineJobRepository.save(job);
+
+        log.info("파이프라인 작업 등록: jobId={}, sessionId={}", job.getJobId(), job.getSessionId());
+        return job.getJobId();
+    }
+
+    public Optional<PipelineJobDto.StatusResponse> findJob(String jobId) {
+        return pipelineJobRepository.findById(jobId).map(PipelineJobDto.StatusResponse::from);
+    }
+
+    InterviewProcessingDto.ProcessingRequest readRequest(PipelineJob job) {
+        try {
+            return objectMapper.readValue(job.getRequestJson(), InterviewProcessingDto.ProcessingRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("파이프라인 요청 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private String writeRequest(InterviewProcessingDto.ProcessingRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("파이프라인 요청 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+}
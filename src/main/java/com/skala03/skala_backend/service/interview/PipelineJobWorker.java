@@ -0,0 +1,190 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
+import com.skala03.skala_backend.entity.interview.PipelineJob;
+import com.skala03.skala_backend.global.config.PipelineJobProperties;
+import com.skala03.skala_backend.global.config.SchedulingConfig;
+import com.skala03.skala_backend.repository.interview.PipelineJobRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 면접 파이프라인 작업 실행기
+ * - pollInterval마다 빈 슬롯(maxConcurrentJobs - 실행 중) 수만큼 실행 가능한 작업을 조건부 UPDATE로 선점 (여러 인스턴스가 같은 작업을 중복 실행하지 않음)
+ * - 실행 중인 작업은 leaseRenewInterval 주기로 lease 연장, 인스턴스가 죽으면 lease 만료 후 다른 인스턴스가 재실행
+ * - 실패 시 지수 backoff 후 재시도, maxAttempts를 넘으면 FAILED
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineJobWorker {
+
+    private final PipelineJobRepository pipelineJobRepository;
+    private final PipelineJobService pipelineJobService;
+    private final InterviewProcessingService interviewProcessingService;
+    private final PipelineJobProperties pipelineJobProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("pipelineExecutor")
+    private final Executor pipelineExecutor;
+
+    // 이 인스턴스가 실행 중인 작업 ID
+    private final Set<String> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    private String workerId;
+
+    @PostConstruct
+    public void init() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        workerId = host + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        Gauge.builder("pipeline.jobs.running", runningJobIds, Set::size)
+                .description("이 인스턴스에서 실행 중인 파이프라인 작업 수")
+                .register(meterRegistry);
+        log.info("파이프라인 워커 시작: workerId={}, 동시 실행={}", workerId, pipelineJobProperties.getMaxConcurrentJobs());
+    }
+
+    @Scheduled(fixedDelayString = "${pipeline.jobs.poll-interval:2s}")
+    public void pollJobs() {
+        int freeSlots = pipelineJobProperties.getMaxConcurrentJobs() - runningJobIds.size();
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> candidates = pipelineJobRepository.findClaimableJobIds(now, PageRequest.of(0, freeSlots));
+        for (String jobId : candidates) {
+            LocalDateTime leaseUntil = now.plus(pipelineJobProperties.getLeaseTtl());
+            if (pipelineJobRepository.claim(jobId, workerId, now, leaseUntil) == 1) {
+                start(jobId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${pipeline.jobs.lease-renew-interval:40s}", scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    public void renewLeases() {
+        if (runningJobIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<String> jobIds = new ArrayList<>(runningJobIds);
+        int renewed = pipelineJobRepository.renewLeases(jobIds, workerId, now, now.plus(pipelineJobProperties.getLeaseTtl()));
+        if (renewed < jobIds.size()) {
+            log.warn("일부 파이프라인 작업 lease 연장 실패: 요청 {}건, 연장 {}건", jobIds.size(), renewed);
+        }
+    }
+
+    private void start(String jobId) {
+        runningJobIds.add(jobId);
+        try {
+            pipelineExecutor.execute(() -> {
+                CompletableFuture<Void> completion;
+                try {
+                    completion = run(jobId);
+                } catch (Exception e) {
+                    log.error("파이프라인 작업 시작 실패: jobId={}, error={}", jobId, e.getMessage(), e);
+                    completion = CompletableFuture.completedFuture(null);
+                }
+                completion.whenComplete((ignored, error) -> runningJobIds.remove(jobId));
+            });
+        } catch (RejectedExecutionException e) {
+            // 슬롯 계산과 실제 풀 상태가 어긋난 경우 - 바로 대기열로 되돌림
+            runningJobIds.remove(jobId);
+            pipelineJobRepository.requeue(jobId, workerId, "워커 포화로 재대기", LocalDateTime.now(), LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 작업 실행 시작 (FastAPI 응답은 논블로킹으로 기다리므로 워커 스레드는 바로 반환됨)
+     * @return 결과 기록까지 끝나면 완료되는 future
+     */
+    private CompletableFuture<Void> run(String jobId) {
+        PipelineJob job = pipelineJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // lease 만료로 재선점된 경우에도 시도 횟수 한도 적용
+        if (job.getAttempts() > job.getMaxAttempts()) {
+            finish(job, PipelineJob.Status.FAILED, "재시도 한도 초과 (처리 중 인스턴스 중단)", null, null);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        log.info("파이프라인 작업 실행: jobId={}, sessionId={}, 시도={}/{}",
+                jobId, job.getSessionId(), job.getAttempts(), job.getMaxAttempts());
+
+        InterviewProcessingDto.ProcessingRequest request;
+        try {
+            request = pipelineJobService.readRequest(job);
+        } catch (Exception e) {
+            finish(job, PipelineJob.Status.FAILED, e.getMessage(), null, null);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return interviewProcessingService.processFullPipelineAsync(request)
+                .handle((result, error) -> {
+                    if (error == null && result.isSuccess()) {
+                        finish(job, PipelineJob.Status.SUCCEEDED, result.getMessage(),
+                                result.getSuccessfulCount(), result.getFailedCount());
+                    } else {
+                        retryOrFail(job, error != null ? error.getMessage() : result.getMessage());
+                    }
+                    return null;
+                });
+    }
+
+    private void retryOrFail(PipelineJob job, String error) {
+        if (job.getAttempts() >= job.getMaxAttempts()) {
+            finish(job, PipelineJob.Status.FAILED, error, null, null);
+            return;
+        }
+
+        Duration backoff = backoff(job.getAttempts());
+        LocalDateTime now = LocalDateTime.now();
+        pipelineJobRepository.requeue(job.getJobId(), workerId, error, now.plus(backoff), now);
+        meterRegistry.counter("pipeline.jobs.retries").increment();
+        log.warn("파이프라인 작업 재시도 예정: jobId={}, {}초 후, error={}", job.getJobId(), backoff.toSeconds(), error);
+    }
+
+    private void finish(PipelineJob job, PipelineJob.Status status, String message,
+                        Integer successfulCount, Integer failedCount) {
+        int updated = pipelineJobRepository.finish(job.getJobId(), workerId, status, message,
+                successfulCount, failedCount, LocalDateTime.now());
+        if (updated == 0) {
+            log.warn("파이프라인 작업 결과 기록 실패 (lease 상실): jobId={}", job.getJobId());
+            return;
+        }
+        meterRegistry.counter("pipeline.jobs.finished", "status", status.name()).increment();
+        log.info("파이프라인 작업 종료: jobId={}, status={}, message={}", job.getJobId(), status, message);
+    }
+
+    private Duration backoff(int attempts) {
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration delay = pipelineJobProperties.getBackoffBase().multipliedBy(multiplier);
+        return delay.compareTo(pipelineJobProperties.getBackoffMax()) > 0 ? pipelineJobProperties.getBackoffMax() : delay;
+    }
+}
@@ -0,0 +1,308 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.client.FastApiDto;
+import com.skala03.skala_backend.entity.applicant.Applicant;
+import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScore;
+import com.skala03.skala_backend.entity.applicant.ApplicantKeywordScoreId;
+import com.skala03.skala_backend.entity.interview.InterviewStatus;
+import com.skala03.skala_backend.repository.applicant.ApplicantKeywordScoreRepository;
+import com.skala03.skala_backend.repository.applicant.ApplicantRepository;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import com.skala03.skala_backend.service.admin.KeywordDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 면접 파이프라인 결과 저장기
+ * - InterviewProcessingService에서 분리한 저장 전용 빈 (자기 호출로 프록시가 우회되어 REQUIRES_NEW가 적용되지 않던 문제 해결)
+ * - 세션 / 지원자 일괄 / 지원자 개별 단계마다 독립된 트랜잭션, 변경분은 커밋 시 JDBC 배치로 flush
+ * - evaluation_json은 타입 DTO(FastApiDto.EvaluationJson)로 바인딩된 값을 검증 후 저장
+ * - 재실행해도 applicant_keyword_scores가 중복되지 않도록 기존 점수는 갱신 (개별 저장은 DB upsert)
+ * - 단계별 flush+커밋 소요 시간을 pipeline.results.commit{stage, outcome} 타이머로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineResultWriter {
+
+    private final SessionRepository sessionRepository;
+    private final ApplicantRepository applicantRepository;
+    private final KeywordDictionary keywordDictionary;
+    private final ApplicantKeywordScoreRepository applicantKeywordScoreRepository;
+    private final MeterRegistry meterRegistry;
+    private final Validator validator;
+    private final SessionStateMachine sessionStateMachine;
+
+    /**
+     * 세션 상태 업데이트 (새로운 트랜잭션)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeSession(FastApiDto.PipelineResponse response) {
+        recordCommitLatency("session");
+
+        // 엔티티를 읽어 저장하지 않고 필요한 컬럼만 UPDATE (상태 전이와 version 충돌 없음)
+        if (sessionRepository.updateRawDataPath(response.getSessionId(), response.getRawSttS3Path()) == 0) {
+            throw new RuntimeException("세션을 찾을 수 없습니다: " + response.getSessionId());
+        }
+
+        // 이미 COMPLETED면 변경 없음, 변경 시 방 채널로 SessionStatusChangedEvent 전달
+        boolean completed = sessionStateMachine.tryTransition(
+                response.getSessionId(), SessionStateMachine.Transition.END_INTERVIEW);
+
+        log.debug("세션 저장 완료: sessionId={}, 상태 변경={}", response.getSessionId(), completed);
+    }
+
+    /**
+     * 지원자 결과 일괄 기록 (새로운 트랜잭션)
+     * - 조회는 지원자/기존 점수 각각 IN 쿼리 1회 (키워드 ID는 KeywordDictionary에서 조회)
+     * - 지원자/기존 점수는 변경 감지로 UPDATE, 신규 점수는 persist → 커밋 시 batch_size 단위로 묶여 전송
+     * - 지원자를 찾을 수 없는 경우 등 데이터 문제는 해당 지원자만 실패로 집계
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public WriteResult writeApplicants(List<FastApiDto.ApplicantResult> results) {
+        recordCommitLatency("applicants");
+        WriteResult outcome = new WriteResult();
+
+        List<String> applicantIds = results.stream()
+                .map(FastApiDto.ApplicantResult::getApplicantId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        Map<String, Applicant> applicants = applicantRepository.findAllById(applicantIds).stream()
+                .collect(Collectors.toMap(Applicant::getApplicantId, Function.identity()));
+
+        Set<String> keywordNames = new HashSet<>();
+        for (FastApiDto.ApplicantResult result : results) {
+            keywordNames.addAll(detailedEvaluationOf(result).keySet());
+        }
+        Map<String, Integer> keywordIds = findKeywordIds(keywordNames);
+
+        Map<ApplicantKeywordScoreId, ApplicantKeywordScore> existingScores =
+                applicantKeywordScoreRepository.findByApplicantIdIn(applicantIds).stream()
+                        .collect(Collectors.toMap(ApplicantKeywordScore::getId, Function.identity()));
+
+        List<ApplicantKeywordScore> newScores = new ArrayList<>();
+
+        for (FastApiDto.ApplicantResult result : results) {
+            Applicant applicant = applicants.get(result.getApplicantId());
+            if (applicant == null) {
+                outcome.incrementFailure();
+                log.error("지원자 저장 실패: 지원자를 찾을 수 없습니다: {}", result.getApplicantId());
+                continue;
+            }
+
+            try {
+                // 점수를 먼저 만들어 두고(검증) 엔티티 변경은 마지막에 적용 - 중간 실패 시 일부만 반영되지 않도록
+                List<ApplicantKeywordScore> scores = toKeywordScores(result, keywordIds);
+
+                applyApplicantResult(applicant, result);
+
+                // 키워드별 점수 - 기존 점수는 갱신, 없으면 신규 저장
+                for (ApplicantKeywordScore score : scores) {
+                    ApplicantKeywordScore existing = existingScores.get(score.getId());
+                    if (existing != null) {
+                        existing.setApplicantScore(score.getApplicantScore());
+                        existing.setScoreComment(score.getScoreComment());
+                    } else {
+                        newScores.add(score);
+                    }
+                }
+
+                outcome.incrementSuccess();
+                log.debug(" 지원자 저장 준비: applicantId={}, 키워드 점수 {}건", result.getApplicantId(), scores.size());
+            } catch (Exception e) {
+                outcome.incrementFailure();
+                log.error("지원자 저장 실패: applicantId={}, error={}",
+                        result.getApplicantId(), e.getMessage(), e);
+            }
+        }
+
+        if (!newScores.isEmpty()) {
+            applicantKeywordScoreRepository.saveAll(newScores);
+        }
+        return outcome;
+    }
+
+    /**
+     * 개별 지원자 결과 기록 (새로운 트랜잭션) - 일괄 저장 실패 시 사용
+     * - 점수는 INSERT ... ON DUPLICATE KEY UPDATE로 기록해 같은 세션이 동시에/여러 번 처리돼도 중복되지 않음
+     * - 실패하면 예외를 던져 이 지원자 트랜잭션만 롤백
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void writeApplicant(FastApiDto.ApplicantResult result) {
+        recordCommitLatency("applicant");
+
+        Applicant applicant = applicantRepository.findById(result.getApplicantId())
+                .orElseThrow(() -> new RuntimeException("지원자를 찾을 수 없습니다: " + result.getApplicantId()));
+
+        List<ApplicantKeywordScore> scores =
+                toKeywordScores(result, findKeywordIds(detailedEvaluationOf(result).keySet()));
+
+        applyApplicantResult(applicant, result);
+
+        for (ApplicantKeywordScore score : scores) {
+            applicantKeywordScoreRepository.upsert(score.getApplicantId(), score.getKeywordId(),
+                    score.getApplicantScore(), score.getScoreComment());
+        }
+        log.debug(" 지원자 개별 저장: applicantId={}, 키워드 점수 {}건", result.getApplicantId(), scores.size());
+    }
+
+    private void applyApplicantResult(Applicant applicant, FastApiDto.ApplicantResult result) {
+        // 기본 정보 업데이트
+        applicant.setInterviewStatus(InterviewStatus.COMPLETED);
+        applicant.setCompletedAt(LocalDateTime.now());
+        applicant.setIndividualPdfPath(result.getPdfS3Path());
+        applicant.setIndividualQnaPath(result.getQnaS3Path());
+
+        // 평가 정보 추출 및 저장
+        updateApplicantEvaluationData(applicant, result.getEvaluationJson());
+    }
+
+    // 키워드 이름 → ID (KeywordDictionary 스냅샷에서 조회, DB 접근 없음)
+    private Map<String, Integer> findKeywordIds(Set<String> keywordNames) {
+        if (keywordNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return keywordDictionary.resolveIds(keywordNames);
+    }
+
+
+    /**
+     * 지원자 평가 데이터 업데이트
+     */
+    private void updateApplicantEvaluationData(Applicant applicant, FastApiDto.EvaluationJson evaluationJson) {
+        if (evaluationJson == null || evaluationJson.hasError()) {
+            log.warn(" 평가 데이터가 없거나 오류 포함: applicantId={}", applicant.getApplicantId());
+            return;
+        }
+
+        // 총점 저장
+        FastApiDto.EvaluationSummary summary = evaluationJson.getEvaluationSummary();
+        if (summary != null && summary.getTotalScore() != null) {
+            applicant.setTotalScore(summary.getTotalScore());
+            log.debug(" 총점 저장: applicantId={}, score={}", applicant.getApplicantId(), applicant.getTotalScore());
+        }
+
+        // 면접 요약 저장
+        if (evaluationJson.getInterviewSummary() != null) {
+            applicant.setTotalComment(evaluationJson.getInterviewSummary());
+        }
+
+        // 추가 질문 저장
+        if (evaluationJson.getNextQuestions() != null) {
+            applicant.setNextCheckpoint(evaluationJson.getNextQuestions());
+        }
+    }
+
+    // 평가 결과의 detailed_evaluation (키워드명 → 키워드 평가)
+    private Map<String, FastApiDto.KeywordEvaluation> detailedEvaluationOf(FastApiDto.ApplicantResult result) {
+        FastApiDto.EvaluationJson evaluationJson = result.getEvaluationJson();
+        if (evaluationJson == null || evaluationJson.hasError() || evaluationJson.getDetailedEvaluation() == null) {
+            return Collections.emptyMap();
+        }
+        return evaluationJson.getDetailedEvaluation();
+    }
+
+    // 평가 결과 검증 - 잘못된 값(점수 범위 등)은 조용히 버리지 않고 해당 지원자 저장 실패로 처리
+    private void validate(FastApiDto.ApplicantResult result) {
+        if (result.hasBindingError()) {
+            throw new IllegalArgumentException(result.getBindingError());
+        }
+        Set<ConstraintViolation<FastApiDto.ApplicantResult>> violations = validator.validate(result);
+        if (!violations.isEmpty()) {
+            String detail = violations.stream()
+                    .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new IllegalArgumentException("평가 결과 검증 실패: " + detail);
+        }
+    }
+
+    // 키워드별 점수 생성 (저장은 호출하는 쪽에서 처리)
+    private List<ApplicantKeywordScore> toKeywordScores(FastApiDto.ApplicantResult result,
+                                                        Map<String, Integer> keywordIds) {
+        validate(result);
+
+        List<ApplicantKeywordScore> keywordScores = new ArrayList<>();
+
+        for (Map.Entry<String, FastApiDto.KeywordEvaluation> entry : detailedEvaluationOf(result).entrySet()) {
+            String keywordName = entry.getKey();
+            FastApiDto.KeywordEvaluation keywordEval = entry.getValue();
+
+            Integer keywordId = keywordIds.get(keywordName);
+            if (keywordId == null) {
+                log.warn(" 키워드를 찾을 수 없습니다: {}", keywordName);
+                continue;
+            }
+
+            ApplicantKeywordScore score = new ApplicantKeywordScore();
+            score.setApplicantId(result.getApplicantId());
+            score.setKeywordId(keywordId);
+            score.setApplicantScore(keywordEval.getFinalScore());
+            score.setScoreComment(keywordEval.getScoreRationale() != null ? keywordEval.getScoreRationale() : "");
+
+            keywordScores.add(score);
+
+            log.debug(" 키워드 점수 준비: {} - {}점", keywordName, score.getApplicantScore());
+        }
+
+        if (keywordScores.isEmpty()) {
+            log.warn(" 저장할 키워드 점수가 없습니다: applicantId={}", result.getApplicantId());
+        }
+        return keywordScores;
+    }
+
+    /**
+     * 현재 트랜잭션의 flush + 커밋 소요 시간 기록 (beforeCommit → afterCompletion)
+     */
+    private void recordCommitLatency(String stage) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private long commitStartNanos;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                commitStartNanos = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (commitStartNanos == 0) {
+                    return; // 커밋 전에 롤백된 경우
+                }
+                Timer.builder("pipeline.results.commit")
+                        .description("면접 결과 저장 단계별 flush + 커밋 소요 시간")
+                        .tag("stage", stage)
+                        .tag("outcome", status == STATUS_COMMITTED ? "committed" : "rolled_back")
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - commitStartNanos, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * 일괄 저장 결과 (지원자 단위 성공/실패 수)
+     */
+    @Getter
+    public static class WriteResult {
+        private int successCount;
+        private int failureCount;
+
+        void incrementSuccess() { successCount++; }
+        void incrementFailure() { failureCount++; }
+    }
+}
@@ -0,0 +1,131 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 면접방 채널(STOMP) 연결을 참가자 presence에 반영
+ * - CONNECT 헤더(userId, roomId) 또는 /topic/rooms/{roomId}, /app/rooms/{roomId} 구독으로 연결과 참가자를 묶음
+ * - CONNECT / SUBSCRIBE / STOMP heart-beat마다 heartbeat (REST 상태 폴링 없이도 presence.ttl 안에 갱신됨)
+ * - 연결이 끊기면 같은 방에 남은 연결이 없을 때 OFFLINE
+ * - 클라이언트 heart-beat 프레임은 이벤트로 발행되지 않으므로 clientInboundChannel 인터셉터로 받음 (WebSocketConfig)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomChannelPresenceTracker implements ChannelInterceptor {
+
+    static final String USER_ID_HEADER = "userId";
+    static final String ROOM_ID_HEADER = "roomId";
+    private static final String[] ROOM_DESTINATION_PREFIXES = {"/topic/rooms/", "/app/rooms/"};
+
+    private final RoomPresenceRegistry roomPresenceRegistry;
+
+    // STOMP 세션 ID → 연결된 참가자
+    private final Map<String, Binding> bindings = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String userId = accessor.getFirstNativeHeader(USER_ID_HEADER);
+        if (accessor.getSessionId() == null || userId == null) {
+            return;
+        }
+        Binding binding = new Binding(userId, accessor.getFirstNativeHeader(ROOM_ID_HEADER));
+        bindings.put(accessor.getSessionId(), binding);
+        heartbeat(binding);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = roomIdOf(accessor.getDestination());
+        Binding binding = accessor.getSessionId() != null ? bindings.get(accessor.getSessionId()) : null;
+        if (roomId == null || binding == null) {
+            return;
+        }
+        binding.roomId = roomId;
+        heartbeat(binding);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Binding binding = bindings.remove(event.getSessionId());
+        if (binding == null || binding.roomId == null) {
+            return;
+        }
+        // 같은 사용자가 다른 탭/연결로 같은 방에 남아 있으면 유지
+        boolean stillConnected = bindings.values().stream()
+                .anyMatch(other -> binding.userId.equals(other.userId) && binding.roomId.equals(other.roomId));
+        if (stillConnected) {
+            return;
+        }
+        try {
+            roomPresenceRegistry.updateStatus(binding.roomId, binding.userId, RoomParticipant.ParticipantStatus.OFFLINE);
+        } catch (IllegalArgumentException e) {
+            log.debug("채널 연결 종료 - 방 참가자 아님: roomId={}, userId={}", binding.roomId, binding.userId);
+        }
+    }
+
+    // STOMP heart-beat 프레임
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.HEARTBEAT) {
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            Binding binding = sessionId != null ? bindings.get(sessionId) : null;
+            if (binding != null) {
+                heartbeat(binding);
+            }
+        }
+        return message;
+    }
+
+    private void heartbeat(Binding binding) {
+        String roomId = binding.roomId;
+        if (roomId == null) {
+            return;
+        }
+        try {
+            roomPresenceRegistry.heartbeat(roomId, binding.userId);
+        } catch (IllegalArgumentException e) {
+            log.debug("채널 heartbeat - 방 참가자 아님: roomId={}, userId={}", roomId, binding.userId);
+        }
+    }
+
+    private static String roomIdOf(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        for (String prefix : ROOM_DESTINATION_PREFIXES) {
+            if (destination.startsWith(prefix) && destination.length() > prefix.length()) {
+                return destination.substring(prefix.length());
+            }
+        }
+        return null;
+    }
+
+    private static class Binding {
+        private final String userId;
+        private volatile String roomId;
+
+        Binding(String userId, String roomId) {
+            this.userId = userId;
+            this.roomId = roomId;
+        }
+    }
+}
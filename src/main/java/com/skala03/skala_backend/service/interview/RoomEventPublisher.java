@@ -0,0 +1,111 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.RoomEventDto;
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.global.config.SchedulingConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 면접방 채널 이벤트 전송
+ * - 세션/참가자 상태 변경을 방별로 모아 두었다가 flush-interval마다 방당 메시지 1건(DIFF)으로 전송
+ *   같은 항목이 여러 번 바뀌면 마지막 상태만 전송 (면접이 몰리는 날에도 초당 메시지 수가 방 수를 넘지 않음)
+ * - 세션 상태는 커밋 이후(@TransactionalEventListener)에만 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomEventPublisher {
+
+    private static final String TOPIC_PREFIX = "/topic/rooms/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 방 ID → 아직 전송하지 않은 변경분 (compute 안에서만 수정, flush는 remove 후 읽음)
+    private final Map<String, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    private Counter changesCounter;
+    private Counter sentCounter;
+
+    @PostConstruct
+    public void init() {
+        changesCounter = meterRegistry.counter("room.events.changes");
+        sentCounter = meterRegistry.counter("room.events.sent");
+        Gauge.builder("room.events.pending.rooms", pending, Map::size)
+                .description("전송 대기 중인 변경분이 있는 면접방 수")
+                .register(meterRegistry);
+    }
+
+    public static String topicOf(String roomId) {
+        return TOPIC_PREFIX + roomId;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(SessionStatusChangedEvent event) {
+        changesCounter.increment();
+        pending.compute(event.getRoomId(), (roomId, changes) -> {
+            PendingChanges target = changes != null ? changes : new PendingChanges();
+            target.sessions.put(event.getSessionId(), event.getSessionStatus());
+            return target;
+        });
+    }
+
+    public void participantChanged(String roomId, String userId, RoomParticipant.ParticipantStatus status) {
+        changesCounter.increment();
+        pending.compute(roomId, (id, changes) -> {
+            PendingChanges target = changes != null ? changes : new PendingChanges();
+            target.participants.put(userId, status);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${room.events.flush-interval:1s}", scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (String roomId : new ArrayList<>(pending.keySet())) {
+            PendingChanges changes = pending.remove(roomId);
+            if (changes == null) {
+                continue;
+            }
+            try {
+                messagingTemplate.convertAndSend(topicOf(roomId), changes.toEvent(roomId));
+                sentCounter.increment();
+            } catch (Exception e) {
+                log.warn("면접방 이벤트 전송 실패: roomId={}, error={}", roomId, e.getMessage());
+            }
+        }
+    }
+
+    private static class PendingChanges {
+        private final Map<Integer, Session.SessionStatus> sessions = new LinkedHashMap<>();
+        private final Map<String, RoomParticipant.ParticipantStatus> participants = new LinkedHashMap<>();
+
+        RoomEventDto.RoomEvent toEvent(String roomId) {
+            List<RoomEventDto.SessionState> sessionStates = new ArrayList<>();
+            sessions.forEach((sessionId, status) -> sessionStates.add(new RoomEventDto.SessionState(sessionId, status)));
+            List<RoomEventDto.ParticipantState> participantStates = new ArrayList<>();
+            participants.forEach((userId, status) -> participantStates.add(new RoomEventDto.ParticipantState(userId, status)));
+            return new RoomEventDto.RoomEvent(RoomEventDto.Type.DIFF, roomId, sessionStates, participantStates,
+                    LocalDateTime.now());
+        }
+    }
+}
@@ -0,0 +1,570 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import com.skala03.skala_backend.entity.interview.RoomParticipantId;
+import com.skala03.skala_backend.global.config.PresenceProperties;
+import com.skala03.skala_backend.global.config.SchedulingConfig;
+import com.skala03.skala_backend.repository.interview.RoomParticipantRepository;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 면접방 참가자 상태(presence) 저장소
+ * - 방별 참가자 상태를 메모리에 보관, 방 ID 해시로 나눈 stripe 단위로 잠금 (서로 다른 방의 요청은 거의 경합하지 않음)
+ * - 방을 처음 사용할 때 room_participants에서 한 번 읽고, 이후 상태 조회는 DB를 거치지 않음
+ * - heartbeat(또는 상태 변경/조회)가 ttl 동안 없으면 타이머 휠에서 만료시켜 OFFLINE 처리
+ * - 변경된 참가자만 flushInterval마다 (방, 상태) 묶음별 UPDATE 한 번으로 기록
+ * - 참가자가 모두 OFFLINE이고 DB 기록까지 끝난 방은 메모리에서 내림 (다시 쓰이면 DB에서 적재)
+ * - 참가자별 현재(WAITING) 세션 ID를 캐시, 세션 상태가 바뀌면 방 단위로 무효화
+ * - 상태가 바뀌면 RoomEventPublisher로 방 채널에 알림 (heartbeat만 온 경우는 알리지 않음)
+ * - 인스턴스 메모리 기준이므로 같은 방의 요청은 한 인스턴스로 모여야 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomPresenceRegistry {
+
+    private static final int STRIPES = 32;
+
+    private final RoomParticipantRepository roomParticipantRepository;
+    private final SessionRepository sessionRepository;
+    private final PresenceProperties presenceProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RoomEventPublisher roomEventPublisher;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    // DB에 아직 기록하지 않은 참가자
+    private final Set<RoomParticipantId> dirty = ConcurrentHashMap.newKeySet();
+
+    private TimerWheel timerWheel;
+    private Counter expiredCounter;
+    private Counter flushedCounter;
+    private Counter evictedCounter;
+
+    @PostConstruct
+    public void init() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        long tickMillis = presenceProperties.getTick().toMillis();
+        int wheelSize = (int) (presenceProperties.getTtl().toMillis() / tickMillis) + 2;
+        timerWheel = new TimerWheel(tickMillis, wheelSize, System.currentTimeMillis());
+
+        expiredCounter = meterRegistry.counter("presence.expired");
+        flushedCounter = meterRegistry.counter("presence.flushed");
+        evictedCounter = meterRegistry.counter("presence.evicted");
+        Gauge.builder("presence.rooms", this, RoomPresenceRegistry::roomCount)
+                .description("메모리에 적재된 면접방 수")
+                .register(meterRegistry);
+        Gauge.builder("presence.dirty", dirty, Set::size)
+                .description("DB 기록 대기 중인 참가자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * heartbeat - 마지막 응답 시각만 갱신 (상태는 그대로)
+     */
+    public ParticipantState heartbeat(String roomId, String userId) {
+        return withParticipant(roomId, userId, presence -> touch(roomId, presence));
+    }
+
+    public Optional<ParticipantState> find(String roomId, String userId) {
+        return withRoom(roomId, userId, room -> {
+            Presence presence = room.participants.get(userId);
+            return Optional.ofNullable(presence != null ? presence.toState() : null);
+        });
+    }
+
+    /**
+     * 방 참가자 전체 상태
+     */
+    public List<ParticipantState> findRoom(String roomId) {
+        return withRoom(roomId, null, room -> {
+            List<ParticipantState> states = new ArrayList<>();
+            for (Presence presence : room.participants.values()) {
+                states.add(presence.toState());
+            }
+            return states;
+        });
+    }
+
+    /**
+     * 방 참가자 중 userIds에 해당하는 참가자 상태 (방에 없는 사용자는 제외)
+     */
+    public List<ParticipantState> findAll(String roomId, Collection<String> userIds) {
+        return withRoom(roomId, null, room -> {
+            List<ParticipantState> states = new ArrayList<>();
+            for (String userId : new HashSet<>(userIds)) {
+                Presence presence = room.participants.get(userId);
+                if (presence != null) {
+                    states.add(presence.toState());
+                }
+            }
+            return states;
+        });
+    }
+
+    /**
+     * 참가자 상태 변경 (heartbeat 포함)
+     * @throws IllegalArgumentException 방 참가자가 아닌 경우
+     */
+    public ParticipantState updateStatus(String roomId, String userId, RoomParticipant.ParticipantStatus status) {
+        return withParticipant(roomId, userId, presence -> {
+            changeStatus(roomId, presence, status);
+            return touch(roomId, presence);
+        });
+    }
+
+    /**
+     * 여러 참가자 상태를 한 번에 변경 (방에 없는 사용자는 무시)
+     * @return 변경된 참가자 수
+     */
+    public int updateStatuses(String roomId, Collection<String> userIds, RoomParticipant.ParticipantStatus status) {
+        return withRoom(roomId, null, room -> {
+            int updated = 0;
+            for (String userId : new HashSet<>(userIds)) {
+                Presence presence = room.participants.get(userId);
+                if (presence != null) {
+                    changeStatus(roomId, presence, status);
+                    touch(roomId, presence);
+                    updated++;
+                }
+            }
+            return updated;
+        });
+    }
+
+    /**
+     * 참가자의 현재(WAITING) 세션 ID
+     * 처음 한 번만 DB에서 읽고 이후 폴링은 메모리에서 응답
+     * 세션 상태 변경/방 재적재 시 무효화, DB 밖에서 바뀐 배정도 missReloadInterval 뒤에는 다시 읽음
+     * @throws IllegalArgumentException 방 참가자가 아닌 경우
+     */
+    public Optional<Integer> currentSessionId(String roomId, String userId) {
+        Stripe stripe = stripeOf(roomId);
+        SessionLookup lookup = withRoom(roomId, userId, current -> {
+            Presence presence = current.participants.get(userId);
+            if (presence == null) {
+                throw new IllegalArgumentException("해당 방의 참가자를 찾을 수 없습니다.");
+            }
+            if (presence.sessionCached && presence.sessionGeneration == current.sessionGeneration
+                    && System.nanoTime() - presence.sessionCachedAtNanos < presenceProperties.getMissReloadInterval().toNanos()) {
+                return new SessionLookup(current, current.sessionGeneration, Optional.ofNullable(presence.currentSessionId));
+            }
+            return new SessionLookup(current, current.sessionGeneration, null);
+        });
+        if (lookup.cached != null) {
+            return lookup.cached;
+        }
+        Room room = lookup.room;
+        long generation = lookup.generation;
+
+        // DB 조회는 stripe 잠금 밖에서 수행
+        Optional<Integer> sessionId = sessionRepository.findCurrentSessionIdByRoomAndUser(roomId, userId);
+
+        stripe.lock.lock();
+        try {
+            Presence presence = room.participants.get(userId);
+            // 조회 중에 세션 상태가 바뀌었거나 방이 내려간 경우 캐시하지 않음 (다음 폴링에서 다시 읽음)
+            if (presence != null && stripe.rooms.get(roomId) == room && room.sessionGeneration == generation) {
+                presence.currentSessionId = sessionId.orElse(null);
+                presence.sessionGeneration = generation;
+                presence.sessionCachedAtNanos = System.nanoTime();
+                presence.sessionCached = true;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        return sessionId;
+    }
+
+    /**
+     * 세션 상태가 바뀌면 해당 방의 현재 세션 캐시 무효화 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessionStatusChanged(SessionStatusChangedEvent event) {
+        if (event.getRoomId() == null) {
+            return;
+        }
+        Stripe stripe = stripeOf(event.getRoomId());
+        stripe.lock.lock();
+        try {
+            Room room = stripe.rooms.get(event.getRoomId());
+            if (room != null) {
+                room.sessionGeneration++;
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * ttl 동안 응답이 없는 참가자 OFFLINE 처리
+     */
+    @Scheduled(fixedDelayString = "${presence.tick:1s}", scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    public void expireSilentParticipants() {
+        long now = System.currentTimeMillis();
+        for (RoomParticipantId key : timerWheel.advance(now)) {
+            Stripe stripe = stripeOf(key.getRoomId());
+            stripe.lock.lock();
+            try {
+                Room room = stripe.rooms.get(key.getRoomId());
+                Presence presence = room != null ? room.participants.get(key.getUserId()) : null;
+                if (presence == null) {
+                    continue;
+                }
+                if (presence.status == RoomParticipant.ParticipantStatus.OFFLINE) {
+                    presence.scheduled = false;
+                } else if (now >= presence.deadlineMillis) {
+                    changeStatus(key.getRoomId(), presence, RoomParticipant.ParticipantStatus.OFFLINE);
+                    presence.scheduled = false;
+                    dirty.add(key);
+                    expiredCounter.increment();
+                    log.info("참가자 응답 없음, OFFLINE 처리: roomId={}, userId={}", key.getRoomId(), key.getUserId());
+                } else {
+                    // 그 사이 heartbeat로 기한이 늘어난 경우 새 기한에 다시 등록
+                    timerWheel.schedule(key, presence.deadlineMillis);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 변경된 참가자 상태를 (방, 상태) 묶음별 UPDATE로 기록
+     */
+    @Scheduled(fixedDelayString = "${presence.flush-interval:2s}", scheduler = SchedulingConfig.REALTIME_SCHEDULER)
+    public void flush() {
+        if (!dirty.isEmpty()) {
+            writeDirty();
+        }
+        evictIdleRooms();
+    }
+
+    private void writeDirty() {
+
+        // 키를 먼저 빼고 상태를 읽음 - 그 뒤의 변경은 다시 dirty에 들어가 다음 flush에서 기록됨
+        Map<String, Map<RoomParticipant.ParticipantStatus, List<String>>> groups = new HashMap<>();
+        List<RoomParticipantId> keys = new ArrayList<>();
+        for (RoomParticipantId key : dirty) {
+            if (!dirty.remove(key)) {
+                continue;
+            }
+            keys.add(key);
+            Stripe stripe = stripeOf(key.getRoomId());
+            stripe.lock.lock();
+            try {
+                Room room = stripe.rooms.get(key.getRoomId());
+                Presence presence = room != null ? room.participants.get(key.getUserId()) : null;
+                if (presence != null) {
+                    groups.computeIfAbsent(key.getRoomId(), roomId -> new HashMap<>())
+                            .computeIfAbsent(presence.status, status -> new ArrayList<>())
+                            .add(key.getUserId());
+                } else {
+                    // 방은 기록 대기 중인 참가자가 있으면 내리지 않으므로 정상적으로는 오지 않음
+                    log.warn("기록할 참가자 상태를 메모리에서 찾을 수 없어 버림: roomId={}, userId={}",
+                            key.getRoomId(), key.getUserId());
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = 0;
+                for (Map.Entry<String, Map<RoomParticipant.ParticipantStatus, List<String>>> room : groups.entrySet()) {
+                    for (Map.Entry<RoomParticipant.ParticipantStatus, List<String>> group : room.getValue().entrySet()) {
+                        rows += roomParticipantRepository.updateStatusByRoomIdAndUserIdIn(
+                                room.getKey(), group.getValue(), group.getKey(), now);
+                    }
+                }
+                return rows;
+            });
+            flushedCounter.increment(updated != null ? updated : 0);
+        } catch (Exception e) {
+            // 다음 flush에서 다시 기록
+            dirty.addAll(keys);
+            log.warn("참가자 상태 기록 실패, 다음 주기에 재시도: {}건, error={}", keys.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 참가자가 모두 OFFLINE이고 기록 대기 중인 참가자가 없는 방을 메모리에서 내림
+     * dirty 추가는 stripe 잠금 안에서만 일어나므로, 잠금 안에서 확인하면 기록 전인 방을 내리지 않음
+     */
+    private void evictIdleRooms() {
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                Iterator<Map.Entry<String, Room>> it = stripe.rooms.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<String, Room> entry = it.next();
+                    if (isIdle(entry.getKey(), entry.getValue())) {
+                        it.remove();
+                        evicted++;
+                    }
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        if (evicted > 0) {
+            evictedCounter.increment(evicted);
+            log.debug("참가자가 모두 OFFLINE인 면접방 {}개를 메모리에서 내림", evicted);
+        }
+    }
+
+    // stripe 잠금을 잡은 상태에서 호출
+    private boolean isIdle(String roomId, Room room) {
+        for (Presence presence : room.participants.values()) {
+            if (presence.status != RoomParticipant.ParticipantStatus.OFFLINE
+                    || dirty.contains(new RoomParticipantId(roomId, presence.userId))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private ParticipantState withParticipant(String roomId, String userId,
+                                             Function<Presence, ParticipantState> action) {
+        return withRoom(roomId, userId, room -> {
+            Presence presence = room.participants.get(userId);
+            if (presence == null) {
+                throw new IllegalArgumentException("해당 방의 참가자를 찾을 수 없습니다.");
+            }
+            return action.apply(presence);
+        });
+    }
+
+    // stripe 잠금을 잡은 상태에서 호출
+    private void changeStatus(String roomId, Presence presence, RoomParticipant.ParticipantStatus status) {
+        if (presence.status != status) {
+            presence.status = status;
+            roomEventPublisher.participantChanged(roomId, presence.userId, status);
+        }
+    }
+
+    // stripe 잠금을 잡은 상태에서 호출
+    private ParticipantState touch(String roomId, Presence presence) {
+        long now = System.currentTimeMillis();
+        presence.lastPingAt = LocalDateTime.now();
+        presence.deadlineMillis = now + presenceProperties.getTtl().toMillis();
+        if (presence.status != RoomParticipant.ParticipantStatus.OFFLINE && !presence.scheduled) {
+            presence.scheduled = true;
+            timerWheel.schedule(new RoomParticipantId(roomId, presence.userId), presence.deadlineMillis);
+        }
+        dirty.add(new RoomParticipantId(roomId, presence.userId));
+        return presence.toState();
+    }
+
+    /**
+     * 방을 찾거나(없으면 DB에서 적재해 등록) stripe 잠금을 잡은 채로 action 실행
+     * expectedUserId가 메모리에 없으면 missReloadInterval에 한 번만 다시 읽어 새 참가자를 반영
+     * DB 조회는 stripe 잠금 밖에서 수행하고, 등록과 action은 같은 잠금 안에서 처리
+     * (잠금을 놓은 사이 evictIdleRooms가 방을 내려 action이 떨어져 나간 Room을 바꾸는 일이 없도록)
+     */
+    private <T> T withRoom(String roomId, String expectedUserId, Function<Room, T> action) {
+        Stripe stripe = stripeOf(roomId);
+        stripe.lock.lock();
+        try {
+            Room room = stripe.rooms.get(roomId);
+            if (room != null && (expectedUserId == null || room.participants.containsKey(expectedUserId)
+                    || System.nanoTime() - room.loadedAtNanos < presenceProperties.getMissReloadInterval().toNanos())) {
+                return action.apply(room);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        List<RoomParticipant> rows = roomParticipantRepository.findByRoomId(roomId);
+
+        stripe.lock.lock();
+        try {
+            Room room = stripe.rooms.computeIfAbsent(roomId, id -> new Room());
+            room.loadedAtNanos = System.nanoTime();
+            // 다시 읽는 경우 세션 배정도 바뀌었을 수 있으므로 현재 세션 캐시 무효화
+            room.sessionGeneration++;
+            long deadline = System.currentTimeMillis() + presenceProperties.getTtl().toMillis();
+            for (RoomParticipant row : rows) {
+                // 이미 메모리에 있는 참가자는 메모리 상태가 기준
+                if (room.participants.containsKey(row.getUserId())) {
+                    continue;
+                }
+                Presence presence = new Presence(row);
+                // DB에 접속 중으로 남아 있는 참가자도 ttl 안에 응답이 없으면 만료
+                presence.deadlineMillis = deadline;
+                if (presence.status != RoomParticipant.ParticipantStatus.OFFLINE) {
+                    presence.scheduled = true;
+                    timerWheel.schedule(new RoomParticipantId(roomId, row.getUserId()), deadline);
+                }
+                room.participants.put(row.getUserId(), presence);
+            }
+            return action.apply(room);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private Stripe stripeOf(String roomId) {
+        return stripes[(roomId.hashCode() & 0x7fffffff) % STRIPES];
+    }
+
+    private int roomCount() {
+        int count = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                count += stripe.rooms.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 참가자 상태 (조회 시점 복사본)
+     */
+    @Getter
+    public static class ParticipantState {
+        private final String userId;
+        private final RoomParticipant.ParticipantRole role;
+        private final RoomParticipant.ParticipantStatus status;
+        private final LocalDateTime lastPingAt;
+
+        ParticipantState(String userId, RoomParticipant.ParticipantRole role,
+                         RoomParticipant.ParticipantStatus status, LocalDateTime lastPingAt) {
+            this.userId = userId;
+            this.role = role;
+            this.status = status;
+            this.lastPingAt = lastPingAt;
+        }
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Room> rooms = new HashMap<>();
+    }
+
+    // currentSessionId 1단계(캐시 확인) 결과, cached가 null이면 DB 조회 필요
+    private static class SessionLookup {
+        private final Room room;
+        private final long generation;
+        private final Optional<Integer> cached;
+
+        SessionLookup(Room room, long generation, Optional<Integer> cached) {
+            this.room = room;
+            this.generation = generation;
+            this.cached = cached;
+        }
+    }
+
+    private static class Room {
+        private final Map<String, Presence> participants = new LinkedHashMap<>();
+        private long loadedAtNanos;
+        // 세션 상태가 바뀔 때마다 증가, 참가자의 현재 세션 캐시는 같은 세대일 때만 유효
+        private long sessionGeneration;
+    }
+
+    // stripe 잠금 안에서만 읽고 씀
+    private static class Presence {
+        private final String userId;
+        private final RoomParticipant.ParticipantRole role;
+        private RoomParticipant.ParticipantStatus status;
+        private LocalDateTime lastPingAt;
+        private long deadlineMillis;
+        // 타이머 휠에 등록되어 있는지 (중복 등록 방지)
+        private boolean scheduled;
+        // 현재(WAITING) 세션 ID 캐시 (세션이 없으면 null)
+        private boolean sessionCached;
+        private Integer currentSessionId;
+        private long sessionGeneration;
+        private long sessionCachedAtNanos;
+
+        Presence(RoomParticipant row) {
+            this.userId = row.getUserId();
+            this.role = row.getParticipantRole();
+            this.status = row.getParticipantStatus();
+            this.lastPingAt = row.getLastPingAt();
+        }
+
+        ParticipantState toState() {
+            return new ParticipantState(userId, role, status, lastPingAt);
+        }
+    }
+
+    /**
+     * 해시 타이머 휠 - 만료 기한을 tick 단위 칸에 넣고, 시간이 지난 칸만 꺼내 확인
+     * 기한이 휠 한 바퀴보다 멀면 마지막 칸에 넣고 꺼낼 때 다시 등록
+     */
+    private static class TimerWheel {
+        private final long tickMillis;
+        private final List<Set<RoomParticipantId>> buckets;
+        private long currentTick;
+
+        TimerWheel(long tickMillis, int size, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.buckets = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.add(new HashSet<>());
+            }
+            this.currentTick = startMillis / tickMillis;
+        }
+
+        synchronized void schedule(RoomParticipantId key, long deadlineMillis) {
+            long tick = Math.max(deadlineMillis / tickMillis, currentTick + 1);
+            tick = Math.min(tick, currentTick + buckets.size() - 1);
+            buckets.get((int) (tick % buckets.size())).add(key);
+        }
+
+        synchronized List<RoomParticipantId> advance(long nowMillis) {
+            List<RoomParticipantId> due = new ArrayList<>();
+            long targetTick = nowMillis / tickMillis;
+            // 한 바퀴 넘게 밀렸으면 한 바퀴만 돌면 됨
+            currentTick = Math.max(currentTick, targetTick - buckets.size());
+            while (currentTick < targetTick) {
+                currentTick++;
+                Set<RoomParticipantId> bucket = buckets.get((int) (currentTick % buckets.size()));
+                due.addAll(bucket);
+                bucket.clear();
+            }
+            return due;
+        }
+    }
+}
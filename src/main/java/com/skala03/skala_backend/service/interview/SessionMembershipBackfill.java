@@ -0,0 +1,95 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * session_interviewers / session_applicants 백필
+ * - 기동 시 전체 세션을 session_id 순으로 훑어 쉼표 구분 컬럼과 목록을 맞춤 (기존 데이터 이관)
+ * - 이후에는 backfill-interval마다 목록이 비어 있는 세션만 채움 (DB에 직접 입력된 세션 대응)
+ * - 애플리케이션을 통한 변경은 Session의 setter에서 함께 기록되므로 여기서 처리할 필요 없음
+ * - 페이지 하나가 실패해도(동시 변경 등) 로그만 남기고 다음 페이지로 진행 (다음 주기에 다시 맞춤)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionMembershipBackfill {
+
+    private final SessionRepository sessionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${session.membership.batch-size:200}")
+    private int batchSize;
+
+    @Value("${session.membership.full-sync-on-startup:true}")
+    private boolean fullSyncOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!fullSyncOnStartup) {
+            return;
+        }
+        try {
+            int updated = backfill(sessionRepository::findSessionIdsAfter);
+            log.info("세션 면접관/지원자 목록 전체 동기화 완료: 갱신 {}건", updated);
+        } catch (Exception e) {
+            log.error("세션 면접관/지원자 목록 전체 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${session.membership.backfill-interval:5m}",
+            initialDelayString = "${session.membership.backfill-interval:5m}")
+    public void backfillMissing() {
+        try {
+            int updated = backfill(sessionRepository::findSessionIdsMissingMembers);
+            if (updated > 0) {
+                log.info("세션 면접관/지원자 목록 백필: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.warn("세션 면접관/지원자 목록 백필 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * session_id 기준 keyset 페이지 단위로 동기화 (페이지마다 별도 트랜잭션)
+     * @return 목록이 바뀐 세션 수
+     */
+    private int backfill(BiFunction<Integer, PageRequest, List<Integer>> nextPage) {
+        int updated = 0;
+        Integer afterSessionId = 0;
+        while (true) {
+            List<Integer> sessionIds = nextPage.apply(afterSessionId, PageRequest.of(0, batchSize));
+            if (sessionIds.isEmpty()) {
+                return updated;
+            }
+            try {
+                Integer changed = transactionTemplate.execute(status -> {
+                    int count = 0;
+                    for (Session session : sessionRepository.findAllById(sessionIds)) {
+                        if (session.syncMembers()) {
+                            count++;
+                        }
+                    }
+                    return count;
+                });
+                updated += changed != null ? changed : 0;
+            } catch (Exception e) {
+                log.warn("세션 면접관/지원자 목록 동기화 실패, 다음 페이지로 진행: sessionId {}~{}, error={}",
+                        sessionIds.get(0), sessionIds.get(sessionIds.size() - 1), e.getMessage());
+            }
+            afterSessionId = sessionIds.get(sessionIds.size() - 1);
+        }
+    }
+}
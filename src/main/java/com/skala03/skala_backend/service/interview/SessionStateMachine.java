@@ -0,0 +1,94 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 세션 상태 전이
+ * - 허용되는 전이는 Transition에만 정의
+ * - 상태 확인과 변경을 조건부 UPDATE 한 문장으로 수행 (session_status IN (허용 상태)일 때만 변경, version 증가)
+ *   동시에 같은 전이를 요청해도 한 요청만 성공하고 나머지는 0건 갱신으로 실패
+ * - 성공 시 SessionStatusChangedEvent 발행 (커밋 이후 방 채널로 전달)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SessionStateMachine {
+
+    public enum Transition {
+        // 방장이 면접 시작 (면접관 대기 → 진행)
+        START_INTERVIEW(Session.SessionStatus.WAITING,
+                EnumSet.of(Session.SessionStatus.SCHEDULED),
+                "이미 시작되었거나 종료된 세션입니다: "),
+        MARK_IN_PROGRESS(Session.SessionStatus.IN_PROGRESS,
+                EnumSet.of(Session.SessionStatus.SCHEDULED, Session.SessionStatus.WAITING),
+                "현재 상태에서는 면접을 시작할 수 없습니다: "),
+        COMPLETE(Session.SessionStatus.COMPLETED,
+                EnumSet.of(Session.SessionStatus.WAITING, Session.SessionStatus.IN_PROGRESS),
+                "진행 중인 세션만 완료할 수 있습니다: "),
+        // 면접 종료 (완료되지 않은 세션이면 어느 상태에서든 종료)
+        END_INTERVIEW(Session.SessionStatus.COMPLETED,
+                EnumSet.of(Session.SessionStatus.SCHEDULED, Session.SessionStatus.WAITING, Session.SessionStatus.IN_PROGRESS),
+                "이미 종료된 세션입니다: ");
+
+        private final Session.SessionStatus target;
+        private final Set<Session.SessionStatus> sources;
+        private final String rejectMessage;
+
+        Transition(Session.SessionStatus target, Set<Session.SessionStatus> sources, String rejectMessage) {
+            this.target = target;
+            this.sources = sources;
+            this.rejectMessage = rejectMessage;
+        }
+
+        public Session.SessionStatus getTarget() {
+            return target;
+        }
+
+        public Set<Session.SessionStatus> getSources() {
+            return sources;
+        }
+    }
+
+    private final SessionRepository sessionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 전이 시도
+     * @return 이 요청이 상태를 바꿨는지 (허용되지 않는 상태이거나 다른 요청이 먼저 바꿨으면 false)
+     */
+    @Transactional
+    public boolean tryTransition(Integer sessionId, Transition transition) {
+        int updated = sessionRepository.transitionStatus(sessionId, transition.getSources(), transition.getTarget());
+        if (updated == 0) {
+            return false;
+        }
+        sessionRepository.findRoomIdBySessionId(sessionId).ifPresent(roomId ->
+                eventPublisher.publishEvent(new SessionStatusChangedEvent(roomId, sessionId, transition.getTarget())));
+        log.info("세션 상태 변경: sessionId={}, transition={}, status={}", sessionId, transition, transition.getTarget());
+        return true;
+    }
+
+    /**
+     * 전이 (실패 시 예외)
+     * @throws IllegalArgumentException 세션이 없는 경우
+     * @throws IllegalStateException 현재 상태에서 허용되지 않는 경우
+     */
+    @Transactional
+    public void transition(Integer sessionId, Transition transition) {
+        if (tryTransition(sessionId, transition)) {
+            return;
+        }
+        Session.SessionStatus current = sessionRepository.findStatusBySessionId(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("세션을 찾을 수 없습니다: " + sessionId));
+        throw new IllegalStateException(transition.rejectMessage + current);
+    }
+}
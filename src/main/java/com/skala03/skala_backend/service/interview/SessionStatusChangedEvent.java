@@ -0,0 +1,20 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.Session;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션 상태가 변경되었음을 알리는 이벤트
+ * - InterviewSessionService가 상태 변경 시 발행, RoomEventPublisher가 커밋 이후 수신해 방 채널로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class SessionStatusChangedEvent {
+
+    private final String roomId;
+
+    private final Integer sessionId;
+
+    private final Session.SessionStatus sessionStatus;
+}
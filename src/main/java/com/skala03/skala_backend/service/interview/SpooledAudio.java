@@ -0,0 +1,24 @@
+package com.skala03.skala_backend.service.interview;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.nio.file.Path;
+
+/**
+ * 스풀 디렉토리에 저장된 음성 파일 (저장하면서 계산한 크기/SHA-256 포함)
+ * 사용이 끝나면 AudioSpoolService.release()로 삭제해야 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class SpooledAudio {
+    private final Path path;
+    private final String originalFilename;
+    private final long size;
+    private final String sha256;
+
+    public File toFile() {
+        return path.toFile();
+    }
+}
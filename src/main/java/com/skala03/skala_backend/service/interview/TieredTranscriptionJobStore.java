@@ -0,0 +1,87 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 메모리 + DB 2단 전사 작업 저장소 (TranscriptionService가 사용하는 기본 구현)
+ * - 저장: 메모리와 DB에 모두 기록 (DB 장애 시에도 이 인스턴스에서는 조회 가능하도록 DB 오류는 로그만 남김)
+ * - 조회: 메모리 우선, 없으면 DB 조회 (다른 인스턴스/재시작 전에 생성된 작업)
+ * - DB에서 읽은 완료/실패 작업만 메모리에 올림 (진행 중 작업은 다른 인스턴스가 갱신하므로 캐시하지 않음)
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class TieredTranscriptionJobStore implements TranscriptionJobStore {
+
+    private final InMemoryTranscriptionJobStore memoryStore;
+    private final JpaTranscriptionJobStore jpaStore;
+
+    @Override
+    public void save(TranscriptionJobRecord record) {
+        memoryStore.save(record);
+        try {
+            jpaStore.save(record);
+        } catch (Exception e) {
+            log.warn("전사 작업 DB 저장 실패 (메모리에만 보관): {} - {}", record.getTranscriptionId(), e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<TranscriptionJobRecord> find(String transcriptionId) {
+        Optional<TranscriptionJobRecord> cached = memoryStore.find(transcriptionId);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        try {
+            Optional<TranscriptionJobRecord> stored = jpaStore.find(transcriptionId);
+            stored.filter(TranscriptionJobRecord::isTerminal).ifPresent(memoryStore::save);
+            return stored;
+        } catch (Exception e) {
+            log.warn("전사 작업 DB 조회 실패: {} - {}", transcriptionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<TranscriptionJobRecord> findReusableByContentKey(String contentKey) {
+        Optional<TranscriptionJobRecord> cached = memoryStore.findReusableByContentKey(contentKey);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        try {
+            return jpaStore.findReusableByContentKey(contentKey);
+        } catch (Exception e) {
+            log.warn("전사 작업 DB 조회 실패 (contentKey): {} - {}", contentKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void touch(Collection<String> transcriptionIds) {
+        try {
+            jpaStore.touch(transcriptionIds);
+        } catch (Exception e) {
+            log.warn("전사 작업 DB heartbeat 실패: {}건 - {}", transcriptionIds.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(String transcriptionId) {
+        memoryStore.delete(transcriptionId);
+        try {
+            jpaStore.delete(transcriptionId);
+        } catch (Exception e) {
+            log.warn("전사 작업 DB 삭제 실패: {} - {}", transcriptionId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionResult;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구간별 전사 결과를 하나의 utterance 목록으로 합침
+ * - start_at을 원본 기준 시각으로 이동
+ * - 겹치는 구간의 중간 지점을 경계로, 앞 구간은 경계 이전 발화만 / 뒤 구간은 경계 이후 발화만 사용
+ * - 화자 번호는 구간마다 새로 매겨지므로, 겹치는 구간에서 시간이 가장 많이 겹치는 화자끼리 같은 화자로 매핑
+ *   (겹치는 구간에서 말하지 않은 화자는 새 번호를 부여)
+ */
+public final class TranscriptStitcher {
+
+    private TranscriptStitcher() {
+    }
+
+    /**
+     * 구간 1개의 전사 결과 (start_at은 구간 시작 기준)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ChunkTranscript {
+        private final long offsetMillis;
+        private final long durationMillis;
+        private final List<TranscriptionResult.Utterance> utterances;
+    }
+
+    /**
+     * @param chunks 시작 시각 순으로 정렬된 구간별 결과
+     */
+    public static List<TranscriptionResult.Utterance> stitch(List<ChunkTranscript> chunks) {
+        List<TranscriptionResult.Utterance> stitched = new ArrayList<>();
+        ChunkTranscript previous = null;
+        List<TranscriptionResult.Utterance> previousMapped = List.of();
+        int nextSpeaker = 0;
+
+        for (ChunkTranscript chunk : chunks) {
+            List<TranscriptionResult.Utterance> shifted = shift(chunk);
+
+            if (previous == null) {
+                stitched.addAll(shifted);
+                previousMapped = shifted;
+                nextSpeaker = maxSpeaker(shifted) + 1;
+                previous = chunk;
+                continue;
+            }
+
+            long overlapStart = chunk.getOffsetMillis();
+            long overlapEnd = previous.getOffsetMillis() + previous.getDurationMillis();
+            long cut = overlapEnd > overlapStart ? (overlapStart + overlapEnd) / 2 : overlapStart;
+
+            // 1. 겹치는 구간에서 화자 매핑 (구간 화자 → 전체 화자)
+            Map<Integer, Integer> speakerMap = matchSpeakers(previousMapped, shifted, overlapStart, overlapEnd);
+            for (TranscriptionResult.Utterance utterance : shifted) {
+                Integer localSpeaker = utterance.getSpk();
+                if (localSpeaker != null && !speakerMap.containsKey(localSpeaker)) {
+                    speakerMap.put(localSpeaker, nextSpeaker++);
+                }
+            }
+
+            // 2. 경계 이후 앞 구간 발화 제거, 경계 이후 뒤 구간 발화 추가
+            stitched.removeIf(utterance -> utterance.getStartAt() >= cut);
+            List<TranscriptionResult.Utterance> mapped = new ArrayList<>();
+            for (TranscriptionResult.Utterance utterance : shifted) {
+                if (utterance.getSpk() != null) {
+                    utterance.setSpk(speakerMap.get(utterance.getSpk()));
+                }
+                mapped.add(utterance);
+                if (utterance.getStartAt() >= cut) {
+                    stitched.add(utterance);
+                }
+            }
+
+            previousMapped = mapped;
+            previous = chunk;
+        }
+
+        stitched.sort(Comparator.comparingLong(TranscriptionResult.Utterance::getStartAt));
+        return stitched;
+    }
+
+    private static List<TranscriptionResult.Utterance> shift(ChunkTranscript chunk) {
+        List<TranscriptionResult.Utterance> shifted = new ArrayList<>();
+        if (chunk.getUtterances() == null) {
+            return shifted;
+        }
+        for (TranscriptionResult.Utterance source : chunk.getUtterances()) {
+            TranscriptionResult.Utterance copy = new TranscriptionResult.Utterance();
+            copy.setSpk(source.getSpk());
+            copy.setMsg(source.getMsg());
+            copy.setDuration(source.getDuration());
+            copy.setLang(source.getLang());
+            copy.setStartAt(chunk.getOffsetMillis() + (source.getStartAt() != null ? source.getStartAt() : 0));
+            shifted.add(copy);
+        }
+        return shifted;
+    }
+
+    /**
+     * 겹치는 구간 안의 발화끼리 시간이 겹친 길이를 화자 쌍별로 합산해, 큰 쌍부터 1:1로 매핑
+     */
+    private static Map<Integer, Integer> matchSpeakers(List<TranscriptionResult.Utterance> previous,
+                                                       List<TranscriptionResult.Utterance> next,
+                                                       long overlapStart, long overlapEnd) {
+        Map<Integer, Map<Integer, Long>> scores = new HashMap<>();
+        for (TranscriptionResult.Utterance nextUtterance : next) {
+            if (nextUtterance.getSpk() == null || !within(nextUtterance, overlapStart, overlapEnd)) {
+                continue;
+            }
+            for (TranscriptionResult.Utterance prevUtterance : previous) {
+                if (prevUtterance.getSpk() == null || !within(prevUtterance, overlapStart, overlapEnd)) {
+                    continue;
+                }
+                long shared = Math.min(end(nextUtterance), end(prevUtterance))
+                        - Math.max(nextUtterance.getStartAt(), prevUtterance.getStartAt());
+                if (shared > 0) {
+                    scores.computeIfAbsent(nextUtterance.getSpk(), k -> new HashMap<>())
+                            .merge(prevUtterance.getSpk(), shared, Long::sum);
+                }
+            }
+        }
+
+        List<long[]> pairs = new ArrayList<>(); // {구간 화자, 전체 화자, 겹친 길이}
+        scores.forEach((local, byGlobal) ->
+                byGlobal.forEach((global, shared) -> pairs.add(new long[]{local, global, shared})));
+        pairs.sort((a, b) -> Long.compare(b[2], a[2]));
+
+        Map<Integer, Integer> speakerMap = new HashMap<>();
+        Set<Integer> usedGlobal = new HashSet<>();
+        for (long[] pair : pairs) {
+            int local = (int) pair[0];
+            int global = (int) pair[1];
+            if (!speakerMap.containsKey(local) && usedGlobal.add(global)) {
+                speakerMap.put(local, global);
+            }
+        }
+        return speakerMap;
+    }
+
+    private static boolean within(TranscriptionResult.Utterance utterance, long from, long to) {
+        return utterance.getStartAt() < to && end(utterance) > from;
+    }
+
+    private static long end(TranscriptionResult.Utterance utterance) {
+        long duration = utterance.getDuration() != null ? utterance.getDuration() : 0;
+        return utterance.getStartAt() + Math.max(duration, 1);
+    }
+
+    private static int maxSpeaker(List<TranscriptionResult.Utterance> utterances) {
+        return utterances.stream()
+                .map(TranscriptionResult.Utterance::getSpk)
+                .filter(spk -> spk != null)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(-1);
+    }
+}
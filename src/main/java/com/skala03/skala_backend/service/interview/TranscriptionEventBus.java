@@ -0,0 +1,158 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionDto;
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 전사 상태 SSE 이벤트 버스
+ * - 작업 1건에 여러 구독자 연결 가능, 상태가 바뀌면 모든 구독자에게 한 번씩 전송
+ * - 구독 즉시 현재 상태 전송, 완료/실패 이벤트 전송 후 연결 종료
+ * - 다른 인스턴스에서 처리 중인 작업은 heartbeat 주기마다 저장소를 확인해 완료 여부 전달
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TranscriptionEventBus {
+
+    private static final String EVENT_NAME = "status";
+
+    private final TranscriptionJobStore transcriptionJobStore;
+    private final MeterRegistry meterRegistry;
+
+    // 구독 연결 유지 시간
+    @Value("${transcription.events.timeout:30m}")
+    private Duration timeout;
+
+    private final Map<String, List<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    // 폴링 스케줄러(네트워크 스레드)를 막지 않도록 전송은 별도 스레드에서 수행
+    private ExecutorService deliveryExecutor;
+
+    @PostConstruct
+    public void init() {
+        deliveryExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "Transcription-Events");
+            t.setDaemon(true);
+            return t;
+        });
+        Gauge.builder("transcription.events.subscribers", subscribers,
+                        map -> map.values().stream().mapToInt(List::size).sum())
+                .description("전사 상태 SSE 구독 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        deliveryExecutor.shutdownNow();
+        subscribers.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        subscribers.clear();
+    }
+
+    /**
+     * 작업 상태 구독 (현재 상태를 바로 전송)
+     */
+    public SseEmitter subscribe(TranscriptionJobRecord job) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        String transcriptionId = job.getTranscriptionId();
+
+        if (job.isTerminal()) {
+            send(emitter, job);
+            emitter.complete();
+            return emitter;
+        }
+
+        emitter.onCompletion(() -> unsubscribe(transcriptionId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unsubscribe(transcriptionId, emitter));
+        subscribers.computeIfAbsent(transcriptionId, k -> new CopyOnWriteArrayList<>()).add(emitter);
+        send(emitter, job);
+
+        // 조회와 등록 사이에 완료된 경우 대비
+        transcriptionJobStore.find(transcriptionId)
+                .filter(TranscriptionJobRecord::isTerminal)
+                .ifPresent(this::publish);
+        return emitter;
+    }
+
+    /**
+     * 상태 변경 전파 (완료/실패면 전송 후 구독 종료)
+     */
+    public void publish(TranscriptionJobRecord job) {
+        deliveryExecutor.execute(() -> deliver(job));
+    }
+
+    /**
+     * 연결 유지용 heartbeat + 다른 인스턴스에서 끝난 작업 확인
+     */
+    @Scheduled(fixedDelayString = "${transcription.events.heartbeat-interval:15s}")
+    public void heartbeat() {
+        for (Map.Entry<String, List<SseEmitter>> entry : subscribers.entrySet()) {
+            for (SseEmitter emitter : entry.getValue()) {
+                try {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } catch (IOException | IllegalStateException e) {
+                    unsubscribe(entry.getKey(), emitter);
+                }
+            }
+            transcriptionJobStore.find(entry.getKey())
+                    .filter(TranscriptionJobRecord::isTerminal)
+                    .ifPresent(this::publish);
+        }
+    }
+
+    private void deliver(TranscriptionJobRecord job) {
+        String transcriptionId = job.getTranscriptionId();
+        List<SseEmitter> emitters = job.isTerminal()
+                ? subscribers.remove(transcriptionId)
+                : subscribers.get(transcriptionId);
+        if (emitters == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : emitters) {
+            send(emitter, job);
+            if (job.isTerminal()) {
+                emitter.complete();
+            }
+        }
+        log.debug("전사 상태 이벤트 전송 - {}: {} (구독자 {}명)", transcriptionId, job.getStatus(), emitters.size());
+    }
+
+    private void send(SseEmitter emitter, TranscriptionJobRecord job) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(EVENT_NAME)
+                    .id(job.getStatus())
+                    .data(TranscriptionDto.StatusResponse.from(job)));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (연결 종료됨) - {}: {}", job.getTranscriptionId(), e.getMessage());
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void unsubscribe(String transcriptionId, SseEmitter emitter) {
+        subscribers.computeIfPresent(transcriptionId, (id, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+}
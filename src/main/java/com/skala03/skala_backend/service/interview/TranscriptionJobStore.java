@@ -0,0 +1,29 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * 전사 작업 상태/결과 저장소
+ * 작업 1건당 TranscriptionJobRecord 하나만 보관한다.
+ */
+public interface TranscriptionJobStore {
+
+    void save(TranscriptionJobRecord record);
+
+    Optional<TranscriptionJobRecord> find(String transcriptionId);
+
+    /**
+     * 같은 contentKey로 진행 중이거나 완료된 작업 조회 (중복 업로드 판별)
+     */
+    Optional<TranscriptionJobRecord> findReusableByContentKey(String contentKey);
+
+    /**
+     * 이 인스턴스에서 처리 중인 작업이 살아 있음을 기록 (갱신이 끊긴 processing 작업은 재사용하지 않음)
+     */
+    void touch(Collection<String> transcriptionIds);
+
+    void delete(String transcriptionId);
+}
@@ -1,70 +1,126 @@
 package com.skala03.skala_backend.service.interview;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.dto.interview.TranscriptionDto;
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
 import com.skala03.skala_backend.dto.interview.TranscriptionResult;
+import com.skala03.skala_backend.global.config.TranscriptionChunkingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TranscriptionService {
 
-    private final RestTemplate restTemplate;
+    private static final int DEFAULT_SPEAKER_COUNT = 6;
+
     private final VitoAuthService vitoAuthService;
+    private final VitoPollScheduler vitoPollScheduler;
     private final ObjectMapper objectMapper;
+    private final TranscriptionJobStore transcriptionJobStore;
+    private final AudioSpoolService audioSpoolService;
+    private final MeterRegistry meterRegistry;
+    private final TranscriptionChunkingProperties chunkingProperties;
+    private final TranscriptionEventBus transcriptionEventBus;
+
+    // Vito 커넥션 풀 공유, 업로드용 타임아웃 (RestTemplateConfig)
+    @Qualifier("vitoUploadRestTemplate")
+    private final RestTemplate restTemplate;
+
+    // AsyncConfig에서 관리하는 공용 전사 스레드 풀 (요청마다 풀을 새로 만들지 않음)
+    @Qualifier("transcriptionExecutor")
+    private final Executor transcriptionExecutor;
 
-    // 메모리에 상태 저장
-    private final Map<String, String> transcriptionStatusMap = new ConcurrentHashMap<>();
-    private final Map<String, TranscriptionResult> transcriptionResultMap = new ConcurrentHashMap<>();
-    private final Map<String, String> transcriptionErrorMap = new ConcurrentHashMap<>();
+    // 이 인스턴스에서 진행 중인 작업 (contentKey → transcriptionId), 동시 중복 업로드 판별용
+    private final Map<String, String> inFlightByContentKey = new ConcurrentHashMap<>();
 
     public String startTranscription(MultipartFile file, Integer speakerCount) throws IOException {
+        if (file.isEmpty()) {
+            throw new IOException("업로드된 파일이 비어있습니다.");
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return startTranscription(inputStream, file.getOriginalFilename(), file.getSize(), speakerCount);
+        }
+    }
+
+    /**
+     * 요청 본문 스트림으로 전사 시작 (multipart 파싱 없이 스풀 디렉토리에 바로 저장)
+     * @param contentLength 요청 Content-Length (모르면 -1)
+     */
+    public String startTranscription(InputStream inputStream, String originalFilename, long contentLength,
+                                     Integer speakerCount) throws IOException {
 
         // 1. 고유 ID 생성
         String transcriptionId = UUID.randomUUID().toString();
 
-        // 2. 파일 검증
-        validateFile(file);
+        // 2. 스풀 디렉토리에 저장 (크기 제한/SHA-256 계산 포함)
+        SpooledAudio audio = audioSpoolService.spool(inputStream, originalFilename, contentLength);
+        if (audio.getSize() == 0) {
+            audioSpoolService.release(audio);
+            throw new IOException("업로드된 파일이 비어있습니다.");
+        }
 
-        // 3. 임시 파일 저장
-        File audioFile = saveTemporaryFile(file);
+        // 3. 같은 음성 + 화자 수로 진행 중이거나 완료된 작업이 있으면 그 작업에 연결
+        String contentKey = contentKey(audio, speakerCount);
+        String existingId = findReusableJob(contentKey, transcriptionId);
+        if (existingId != null) {
+            audioSpoolService.release(audio);
+            log.info(" 중복 업로드 - 기존 작업에 연결: {} (contentKey: {})", existingId, contentKey);
+            return existingId;
+        }
 
         // 4. 상태를 processing으로 설정
-        transcriptionStatusMap.put(transcriptionId, "processing");
+        TranscriptionJobRecord job = TranscriptionJobRecord.processing(transcriptionId, contentKey);
+        transcriptionJobStore.save(job);
 
         // 5. CompletableFuture로 비동기 작업 실행
         log.info(" 메인 스레드에서 작업 시작: {} [스레드: {}]",
                 transcriptionId, Thread.currentThread().getName());
 
-        CompletableFuture.runAsync(() -> {
-                    processTranscription(transcriptionId, audioFile, speakerCount);
-                }, getTranscriptionExecutor())
-                .exceptionally(throwable -> {
-                    log.error(" CompletableFuture 예외 발생: {}", transcriptionId, throwable);
-                    transcriptionStatusMap.put(transcriptionId, "failed");
-                    transcriptionErrorMap.put(transcriptionId, "비동기 작업 실패: " + throwable.getMessage());
-                    return null;
-                });
+        try {
+            CompletableFuture.runAsync(() -> {
+                        processTranscription(job, audio, speakerCount);
+                    }, transcriptionExecutor)
+                    .exceptionally(throwable -> {
+                        log.error(" CompletableFuture 예외 발생: {}", transcriptionId, throwable);
+                        finish(job.failed("비동기 작업 실패: " + throwable.getMessage()));
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            // 큐 포화 - 호출자에게 전달 (429 응답)
+            // 작업 기록은 지우지 않고 FAILED로 남김: 그 사이 같은 음성으로 이 ID에 연결된 요청도 404 대신 실패 상태를 받음
+            log.warn(" 전사 작업 큐 포화로 거절: {}", transcriptionId);
+            finish(job.failed("전사 작업 큐 포화"));
+            audioSpoolService.release(audio);
+            throw e;
+        }
 
         log.info(" 메인 스레드 완료, 즉시 반환: {}", transcriptionId);
         return transcriptionId;
@@ -73,82 +129,128 @@ public class TranscriptionService {
     /**
      * 실제 전사 처리 로직 (CompletableFuture에서 실행)
      */
-    private void processTranscription(String transcriptionId, File audioFile, Integer speakerCount) {
+    private void processTranscription(TranscriptionJobRecord job, SpooledAudio audio, Integer speakerCount) {
+        String transcriptionId = job.getTranscriptionId();
+        File audioFile = audio.toFile();
         try {
             log.info(" 비동기 전사 작업 시작: {} [스레드: {}]",
                     transcriptionId, Thread.currentThread().getName());
 
-            // 1. 인증 토큰 획득
+            // 1. 인증 토큰 획득 (캐시된 토큰 재사용)
             log.info("Vito 인증 토큰 획득 시작: {}", transcriptionId);
             String jwtToken = vitoAuthService.getAccessToken();
             log.info("Vito 인증 토큰 획득 완료: {}", transcriptionId);
 
+            // 긴 WAV 녹음은 구간으로 나눠 병렬 전사 (아래 2~4단계를 구간별로 수행)
+            List<WavChunker.Chunk> chunks = splitIfLong(audio);
+            if (!chunks.isEmpty()) {
+                processChunkedTranscription(job, chunks, jwtToken, speakerCount);
+                return;
+            }
+
             // 2. Vito API에 전사 요청
             log.info("Vito API 전사 요청 시작: {}", transcriptionId);
             String vitoTranscriptionId = transcribe(audioFile, jwtToken, speakerCount);
             log.info("Vito API 전사 요청 완료: {} → vitoId: {}", transcriptionId, vitoTranscriptionId);
 
-            // 3. 결과 폴링 (완료될 때까지 대기)
-            log.info("Vito API 결과 폴링 시작: {}", transcriptionId);
-            TranscriptionResult result = pollForResult(vitoTranscriptionId, jwtToken);
-            log.info("Vito API 결과 폴링 완료: {}", transcriptionId);
-
-            // 4. 결과 저장
-            transcriptionStatusMap.put(transcriptionId, "completed");
-            transcriptionResultMap.put(transcriptionId, result);
-
-            log.info(" 전사 작업 완료: {} [스레드: {}]",
+            // 3. 결과 폴링 등록 (스케줄러가 비동기로 폴링 - 워커 스레드는 즉시 반환)
+            long audioSeconds = AudioDurationEstimator.estimateSeconds(audioFile);
+            vitoPollScheduler.submit(vitoTranscriptionId, audioSeconds)
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            log.error(" 전사 결과 폴링 실패: {} - 오류: {}", transcriptionId, error.getMessage());
+                            finish(job.failed(error.getMessage()));
+                            return;
+                        }
+
+                        // 4. 결과 저장 (utterance만 보관)
+                        finish(job.completed(toUtterances(utterancesOf(result))));
+                        log.info(" 전사 작업 완료: {}", transcriptionId);
+                    });
+
+            log.info(" Vito 업로드 완료, 폴링 스케줄러에 등록: {} [스레드: {}]",
                     transcriptionId, Thread.currentThread().getName());
 
         } catch (Exception e) {
             log.error(" 전사 작업 실패: {} [스레드: {}] - 오류: {}",
                     transcriptionId, Thread.currentThread().getName(), e.getMessage(), e);
-            transcriptionStatusMap.put(transcriptionId, "failed");
-            transcriptionErrorMap.put(transcriptionId, e.getMessage());
+            finish(job.failed(e.getMessage()));
+        } finally {
+            // Vito 업로드가 끝나면 스풀 파일은 더 이상 필요 없음
+            audioSpoolService.release(audio);
         }
     }
 
     /**
-     * CompletableFuture용 커스텀 스레드 풀
+     * chunking 조건(비압축 WAV, minDuration 이상)을 만족하면 구간 파일로 분할, 아니면 빈 목록
      */
-    private Executor getTranscriptionExecutor() {
-        return Executors.newFixedThreadPool(5, r -> {
-            Thread t = new Thread(r);
-            t.setName("CF-Transcription-" + t.getId());
-            t.setDaemon(false); // 메인 스레드 종료시에도 작업 완료까지 대기
-            return t;
-        });
-    }
-
-    /**
-     * 파일 검증 로직
-     */
-    private void validateFile(MultipartFile file) throws IOException {
-        if (file.isEmpty()) {
-            throw new IOException("업로드된 파일이 비어있습니다.");
+    private List<WavChunker.Chunk> splitIfLong(SpooledAudio audio) {
+        if (!chunkingProperties.isEnabled()) {
+            return List.of();
         }
+        try {
+            long durationMillis = WavChunker.durationMillis(audio.getPath());
+            if (durationMillis < chunkingProperties.getMinDuration().toMillis()) {
+                return List.of();
+            }
+
+            // 구간 수가 maxChunks를 넘지 않도록 구간 길이 조정
+            Duration overlap = chunkingProperties.getOverlap();
+            long minChunkMillis = durationMillis / chunkingProperties.getMaxChunks() + overlap.toMillis() + 1;
+            Duration chunkDuration = Duration.ofMillis(
+                    Math.max(chunkingProperties.getChunkDuration().toMillis(), minChunkMillis));
 
-        if (file.getSize() > 500 * 1024 * 1024) { // 500MB 제한
-            throw new IOException("파일 크기가 500MB를 초과합니다.");
+            return audioSpoolService.splitWav(audio, chunkDuration, overlap);
+        } catch (Exception e) {
+            // 분할 실패 시 파일 전체를 한 번에 전사
+            log.warn("음성 분할 실패, 전체 파일로 전사: {} - {}", audio.getOriginalFilename(), e.getMessage());
+            return List.of();
         }
     }
 
     /**
-     * 임시 파일 저장
+     * 구간별로 Vito에 업로드하고, 모든 구간 결과가 나오면 이어 붙여 저장
+     * (Vito 처리는 구간 수만큼 병렬로 진행되므로 전체 소요 시간은 가장 긴 구간 기준)
      */
-    private File saveTemporaryFile(MultipartFile file) throws IOException {
-        Path tempDir = Files.createTempDirectory("transcription_");
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            originalFilename = "audio_" + System.currentTimeMillis();
-        }
+    private void processChunkedTranscription(TranscriptionJobRecord job, List<WavChunker.Chunk> chunks,
+                                             String jwtToken, Integer speakerCount) {
+        String transcriptionId = job.getTranscriptionId();
+        log.info(" 분할 전사 시작: {} - 구간 {}개", transcriptionId, chunks.size());
 
-        Path filePath = Paths.get(tempDir.toString(), originalFilename);
-        file.transferTo(filePath);
-        File audioFile = filePath.toFile();
-        audioFile.deleteOnExit(); // JVM 종료시 삭제
+        List<CompletableFuture<TranscriptStitcher.ChunkTranscript>> chunkResults = new ArrayList<>();
+        try {
+            for (WavChunker.Chunk chunk : chunks) {
+                String vitoTranscriptionId = transcribe(chunk.getPath().toFile(), jwtToken, speakerCount);
+                audioSpoolService.release(chunk);
+                log.info("Vito 구간 전사 요청 완료: {} [{}ms~] → vitoId: {}",
+                        transcriptionId, chunk.getOffsetMillis(), vitoTranscriptionId);
+
+                chunkResults.add(vitoPollScheduler.submit(vitoTranscriptionId, chunk.getDurationMillis() / 1000)
+                        .thenApply(result -> new TranscriptStitcher.ChunkTranscript(
+                                chunk.getOffsetMillis(), chunk.getDurationMillis(), utterancesOf(result))));
+            }
+        } catch (RuntimeException e) {
+            // 이미 등록한 구간 폴링은 결과를 사용하지 않음
+            chunkResults.forEach(future -> future.cancel(false));
+            throw e;
+        } finally {
+            chunks.forEach(audioSpoolService::release);
+        }
 
-        return audioFile;
+        CompletableFuture.allOf(chunkResults.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.error(" 분할 전사 실패: {} - 오류: {}", transcriptionId, error.getMessage());
+                        finish(job.failed(error.getMessage()));
+                        return;
+                    }
+
+                    List<TranscriptStitcher.ChunkTranscript> transcripts = chunkResults.stream()
+                            .map(CompletableFuture::join)
+                            .toList();
+                    finish(job.completed(toUtterances(TranscriptStitcher.stitch(transcripts))));
+                    log.info(" 분할 전사 완료: {} - 구간 {}개", transcriptionId, transcripts.size());
+                });
     }
 
     private String transcribe(File audioFile, String jwtToken, Integer speakerCount) {
@@ -160,7 +262,7 @@ public class TranscriptionService {
             FileSystemResource fileResource = new FileSystemResource(audioFile);
 
             // 2. 설정값 처리
-            int spkCount = (speakerCount != null) ? speakerCount : 6;
+            int spkCount = (speakerCount != null) ? speakerCount : DEFAULT_SPEAKER_COUNT;
 
             // 3. JSON 설정 생성 (paragraph 제거됨)
             String configJson = String.format("""
@@ -191,11 +293,10 @@ public class TranscriptionService {
             HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(formData, headers);
 
             // 7. API 호출
-            String baseUrl = "https://openapi.vito.ai";
-            log.info("Vito API 호출 시작 - URL: {}/v1/transcribe", baseUrl);
+            log.info("Vito API 호출 시작 - URL: /v1/transcribe");
 
             ResponseEntity<String> response = restTemplate.postForEntity(
-                    baseUrl + "/v1/transcribe",
+                    "/v1/transcribe",
                     requestEntity,
                     String.class
             );
@@ -231,64 +332,79 @@ public class TranscriptionService {
     }
 
     /**
-     * 결과 폴링 - 완료될 때까지 주기적으로 확인
+     * 중복 판별 키: 음성 SHA-256 + 화자 수 (화자 수가 다르면 결과가 달라지므로 별도 작업)
      */
-    private TranscriptionResult pollForResult(String vitoTranscriptionId, String jwtToken) {
-        String baseUrl = "https://openapi.vito.ai";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(jwtToken);
-        HttpEntity<String> requestEntity = new HttpEntity<>(headers);
-
-        log.info("Vito 폴링 시작 - vitoId: {}", vitoTranscriptionId);
-
-        //  대기 (10초 * 200회)
-        for (int i = 0; i < 200; i++) {
-            try {
-                log.debug("Vito 폴링 시도 {}/200 - vitoId: {}", i + 1, vitoTranscriptionId);
-
-                ResponseEntity<TranscriptionResult> response = restTemplate.exchange(
-                        baseUrl + "/v1/transcribe/" + vitoTranscriptionId,
-                        HttpMethod.GET,
-                        requestEntity,
-                        TranscriptionResult.class
-                );
-
-                TranscriptionResult result = response.getBody();
-                log.debug("Vito 응답 상태: {} - vitoId: {}",
-                        result != null ? result.getStatus() : "null", vitoTranscriptionId);
-
-                // 완료되면 결과 반환
-                if (result != null && "completed".equals(result.getStatus())) {
-                    log.info("Vito 전사 완료 - vitoId: {}", vitoTranscriptionId);
-                    return result;
-                }
-
-                // 10초 대기
-                Thread.sleep(10000);
-
-            } catch (Exception e) {
-                log.error("Vito 폴링 중 오류 - 시도 {}/200, vitoId: {}, 오류: {}",
-                        i + 1, vitoTranscriptionId, e.getMessage());
-                if (i == 199) { // 마지막 시도
-                    throw new RuntimeException("전사 결과 조회 실패: " + e.getMessage(), e);
-                }
-            }
+    private String contentKey(SpooledAudio audio, Integer speakerCount) {
+        int spkCount = (speakerCount != null) ? speakerCount : DEFAULT_SPEAKER_COUNT;
+        return audio.getSha256() + ":" + spkCount;
+    }
+
+    /**
+     * 재사용할 기존 작업 ID 조회, 없으면 newTranscriptionId를 진행 중 작업으로 등록하고 null 반환
+     */
+    private String findReusableJob(String contentKey, String newTranscriptionId) {
+        String inFlightId = inFlightByContentKey.putIfAbsent(contentKey, newTranscriptionId);
+        if (inFlightId != null) {
+            meterRegistry.counter("transcription.dedup.hits", "source", "in-flight").increment();
+            return inFlightId;
         }
 
-        throw new RuntimeException("전사 작업 시간 초과 - vitoId: " + vitoTranscriptionId);
+        // 완료된 작업 또는 다른 인스턴스에서 진행 중인 작업
+        Optional<TranscriptionJobRecord> stored = transcriptionJobStore.findReusableByContentKey(contentKey);
+        if (stored.isPresent()) {
+            inFlightByContentKey.remove(contentKey, newTranscriptionId);
+            meterRegistry.counter("transcription.dedup.hits", "source", "store").increment();
+            return stored.get().getTranscriptionId();
+        }
+        return null;
+    }
+
+    /**
+     * 이 인스턴스에서 처리 중인 작업 heartbeat (processing-timeout 안에 갱신되어야 중복 업로드에 연결됨)
+     */
+    @Scheduled(fixedDelayString = "${transcription.store.processing-heartbeat-interval:1m}")
+    public void heartbeatInFlight() {
+        if (inFlightByContentKey.isEmpty()) {
+            return;
+        }
+        transcriptionJobStore.touch(new ArrayList<>(inFlightByContentKey.values()));
     }
 
-    // 상태 조회 메서드들
-    public TranscriptionResult getTranscriptionResult(String transcriptionId) {
-        return transcriptionResultMap.get(transcriptionId);
+    /**
+     * 완료/실패 상태 저장 후 진행 중 인덱스에서 제거, 구독자에게 전파
+     */
+    private void finish(TranscriptionJobRecord finished) {
+        transcriptionJobStore.save(finished);
+        inFlightByContentKey.remove(finished.getContentKey(), finished.getTranscriptionId());
+        transcriptionEventBus.publish(finished);
+    }
+
+    /**
+     * Vito 응답에서 utterance(spk, msg)만 추출
+     */
+    private List<TranscriptionDto.Utterance> toUtterances(List<TranscriptionResult.Utterance> vitoUtterances) {
+        return vitoUtterances.stream()
+                .map(vitoUtterance -> TranscriptionDto.Utterance.builder()
+                        .spk(vitoUtterance.getSpk())
+                        .msg(vitoUtterance.getMsg())
+                        .build())
+                .toList();
+    }
+
+    private List<TranscriptionResult.Utterance> utterancesOf(TranscriptionResult result) {
+        if (result == null || result.getResults() == null || result.getResults().getUtterances() == null) {
+            return List.of();
+        }
+        return result.getResults().getUtterances();
     }
 
-    public String getTranscriptionStatus(String transcriptionId) {
-        return transcriptionStatusMap.get(transcriptionId);
+    // 상태 조회
+    public Optional<TranscriptionJobRecord> findJob(String transcriptionId) {
+        return transcriptionJobStore.find(transcriptionId);
     }
 
-    public String getTranscriptionError(String transcriptionId) {
-        return transcriptionErrorMap.get(transcriptionId);
+    // 상태 구독 (SSE)
+    public Optional<SseEmitter> subscribe(String transcriptionId) {
+        return transcriptionJobStore.find(transcriptionId).map(transcriptionEventBus::subscribe);
     }
 }
@@ -4,28 +4,165 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.skala03.skala_backend.global.config.VitoApiProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Vito 인증 토큰 발급 + 캐시
+ * - expire_at 직전까지 토큰 재사용, 만료 refreshAhead 전에 백그라운드에서 미리 갱신
+ * - 동시에 여러 요청이 갱신을 필요로 해도 /v1/authenticate 호출은 한 번만 수행 (in-flight 공유)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class VitoAuthService {
 
+    // Vito 커넥션 풀 공유, 인증용 타임아웃 (RestTemplateConfig)
+    @Qualifier("vitoAuthRestTemplate")
     private final RestTemplate restTemplate;
     private final VitoApiProperties vitoApiProperties;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 만료 전 이 시간 안으로 들어오면 백그라운드 갱신
+    @Value("${vito.token.refresh-ahead:10m}")
+    private Duration refreshAhead;
+
+    // 만료 시각 직전 이 시간부터는 캐시 토큰을 사용하지 않음
+    @Value("${vito.token.expiry-skew:1m}")
+    private Duration expirySkew;
+
+    // expire_at이 없는 응답일 때 사용할 기본 유효 시간
+    @Value("${vito.token.default-ttl:30m}")
+    private Duration defaultTtl;
+
+    private final AtomicReference<CachedToken> cachedToken = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRefresh = new AtomicReference<>();
+
+    private ScheduledExecutorService refreshExecutor;
+    private Counter hitCounter;
+    private Counter missCounter;
+    private Timer refreshTimer;
+
+    @PostConstruct
+    public void init() {
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "Vito-Token-Refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        hitCounter = Counter.builder("vito.token.cache").tag("result", "hit").register(meterRegistry);
+        missCounter = Counter.builder("vito.token.cache").tag("result", "miss").register(meterRegistry);
+        refreshTimer = Timer.builder("vito.token.refresh")
+                .description("Vito /v1/authenticate 호출 시간")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
 
+    /**
+     * 캐시된 토큰 반환 (없거나 만료 임박이면 갱신될 때까지 대기)
+     */
     public String getAccessToken() {
         try {
-            log.info("Vito 인증 토큰 요청 시작");
+            return getAccessTokenAsync().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Vito 토큰 획득 실패: {}", cause.getMessage(), cause);
+            throw new RuntimeException("토큰 획득 실패: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 캐시 히트면 즉시 완료된 future, 미스면 진행 중인(또는 새로 시작한) 갱신 future 반환
+     */
+    public CompletableFuture<String> getAccessTokenAsync() {
+        long now = System.currentTimeMillis();
+        CachedToken token = cachedToken.get();
+
+        if (token != null && token.isUsableAt(now, expirySkew)) {
+            hitCounter.increment();
+            if (token.needsRefreshAt(now, refreshAhead)) {
+                refreshCoalesced();
+            }
+            return CompletableFuture.completedFuture(token.accessToken);
+        }
 
-            String baseUrl = "https://openapi.vito.ai";
+        missCounter.increment();
+        return refreshCoalesced().thenApply(refreshed -> refreshed.accessToken);
+    }
+
+    /**
+     * 401 응답 등으로 토큰이 무효화된 경우 캐시에서 제거
+     */
+    public void invalidate(String accessToken) {
+        CachedToken token = cachedToken.get();
+        if (token != null && token.accessToken.equals(accessToken)) {
+            cachedToken.compareAndSet(token, null);
+            log.info("Vito 토큰 캐시 무효화");
+        }
+    }
+
+    private CompletableFuture<CachedToken> refreshCoalesced() {
+        CompletableFuture<CachedToken> created = new CompletableFuture<>();
+        CompletableFuture<CachedToken> existing = inFlightRefresh.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    CachedToken refreshed = refreshTimer.record(this::fetchToken);
+                    cachedToken.set(refreshed);
+                    scheduleProactiveRefresh(refreshed);
+                    created.complete(refreshed);
+                } catch (Exception e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlightRefresh.compareAndSet(created, null);
+                }
+            });
+        } catch (Exception e) {
+            inFlightRefresh.compareAndSet(created, null);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    private void scheduleProactiveRefresh(CachedToken token) {
+        long delayMillis = token.expireAtMillis - refreshAhead.toMillis() - System.currentTimeMillis();
+        if (delayMillis > 0) {
+            refreshExecutor.schedule(this::refreshCoalesced, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private CachedToken fetchToken() {
+        try {
+            log.info("Vito 인증 토큰 요청 시작");
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
@@ -36,10 +173,10 @@ public class VitoAuthService {
 
             HttpEntity<MultiValueMap<String, String>> requestEntity = new HttpEntity<>(formData, headers);
 
-            log.debug("Vito 인증 API 호출 - URL: {}/v1/authenticate", baseUrl);
+            log.debug("Vito 인증 API 호출 - URL: {}/v1/authenticate", vitoApiProperties.getBaseUrl());
 
             ResponseEntity<String> response = restTemplate.postForEntity(
-                    baseUrl + "/v1/authenticate",
+                    "/v1/authenticate",
                     requestEntity,
                     String.class
             );
@@ -59,8 +196,13 @@ public class VitoAuthService {
                 throw new RuntimeException("AccessToken이 비어있음");
             }
 
-            log.info("Vito 인증 토큰 획득 성공");
-            return tokenResponse.getAccessToken();
+            long expireAtMillis = tokenResponse.getExpireAt() != null
+                    ? tokenResponse.getExpireAt() * 1000
+                    : System.currentTimeMillis() + defaultTtl.toMillis();
+
+            log.info("Vito 인증 토큰 획득 성공 (만료까지 {}분)",
+                    (expireAtMillis - System.currentTimeMillis()) / 60_000);
+            return new CachedToken(tokenResponse.getAccessToken(), expireAtMillis);
 
         } catch (Exception e) {
             log.error("Vito 토큰 획득 실패: {}", e.getMessage(), e);
@@ -68,6 +210,24 @@ public class VitoAuthService {
         }
     }
 
+    private static final class CachedToken {
+        private final String accessToken;
+        private final long expireAtMillis;
+
+        private CachedToken(String accessToken, long expireAtMillis) {
+            this.accessToken = accessToken;
+            this.expireAtMillis = expireAtMillis;
+        }
+
+        private boolean isUsableAt(long nowMillis, Duration skew) {
+            return nowMillis < expireAtMillis - skew.toMillis();
+        }
+
+        private boolean needsRefreshAt(long nowMillis, Duration refreshAhead) {
+            return nowMillis >= expireAtMillis - refreshAhead.toMillis();
+        }
+    }
+
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class TokenResponse {
         @JsonProperty("access_token")
@@ -82,4 +242,4 @@ public class VitoAuthService {
         public Long getExpireAt() { return expireAt; }
         public void setExpireAt(Long expireAt) { this.expireAt = expireAt; }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,232 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionResult;
+import com.skala03.skala_backend.global.config.VitoPollProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vito 전사 결과 폴링 스케줄러
+ * - 진행 중인 모든 Vito 작업을 다음 폴링 시각 기준 DelayQueue 하나에 보관
+ * - 디스패처 스레드 1개가 만기된 작업을 꺼내 WebClient로 비동기 조회 (스레드를 점유하지 않음)
+ * - 폴링 간격은 음성 길이에 비례해 시작하고, 미완료 응답마다 점점 늘어남
+ * - 인증 토큰은 폴링 시점마다 VitoAuthService 캐시에서 가져옴 (장시간 작업 중 토큰 만료 대응)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VitoPollScheduler {
+
+    private final WebClient webClient;
+    private final VitoAuthService vitoAuthService;
+    private final VitoPollProperties pollProperties;
+    private final MeterRegistry meterRegistry;
+
+    private final DelayQueue<PollTask> pollQueue = new DelayQueue<>();
+    private final AtomicInteger inFlightPolls = new AtomicInteger();
+
+    private Counter pollCounter;
+    private Counter pollErrorCounter;
+    private Thread dispatcher;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        pollCounter = Counter.builder("vito.poll.requests").register(meterRegistry);
+        pollErrorCounter = Counter.builder("vito.poll.errors").register(meterRegistry);
+        Gauge.builder("vito.poll.pending", pollQueue, DelayQueue::size)
+                .description("결과 대기 중인 Vito 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("vito.poll.in-flight", inFlightPolls, AtomicInteger::get)
+                .description("응답 대기 중인 폴링 요청 수")
+                .register(meterRegistry);
+
+        running = true;
+        dispatcher = new Thread(this::dispatchLoop, "Vito-Poll-Dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+
+        for (PollTask task : pollQueue.toArray(new PollTask[0])) {
+            task.result.completeExceptionally(new IllegalStateException("서버 종료로 전사 결과 폴링이 중단되었습니다."));
+        }
+        pollQueue.clear();
+    }
+
+    /**
+     * Vito 작업을 폴링 큐에 등록
+     * @param audioDurationSeconds 음성 길이(초) - 폴링 간격/타임아웃 계산에 사용
+     * @return 전사 완료 시 결과로 완료되는 future
+     */
+    public CompletableFuture<TranscriptionResult> submit(String vitoTranscriptionId, long audioDurationSeconds) {
+        Duration initialDelay = clamp(scale(audioDurationSeconds, pollProperties.getInitialDelayRatio()));
+        Duration interval = clamp(scale(audioDurationSeconds, pollProperties.getIntervalRatio()));
+        Duration timeout = scale(audioDurationSeconds, pollProperties.getTimeoutRatio());
+        if (timeout.compareTo(pollProperties.getMinTimeout()) < 0) {
+            timeout = pollProperties.getMinTimeout();
+        }
+
+        PollTask task = new PollTask(vitoTranscriptionId, interval, System.nanoTime() + timeout.toNanos());
+        task.scheduleAfter(initialDelay);
+        pollQueue.offer(task);
+
+        log.info("Vito 폴링 등록 - vitoId: {}, 음성길이: {}초, 첫 폴링: {}초 후, 간격: {}초, 한도: {}분",
+                vitoTranscriptionId, audioDurationSeconds, initialDelay.toSeconds(),
+                interval.toSeconds(), timeout.toMinutes());
+        return task.result;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            try {
+                PollTask task = pollQueue.take();
+                poll(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Vito 폴링 디스패치 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void poll(PollTask task) {
+        if (task.result.isDone()) {
+            return;
+        }
+        if (System.nanoTime() > task.deadlineNanos) {
+            task.result.completeExceptionally(
+                    new TimeoutException("전사 작업 시간 초과 - vitoId: " + task.vitoTranscriptionId));
+            return;
+        }
+
+        task.attempts++;
+        pollCounter.increment();
+        inFlightPolls.incrementAndGet();
+        log.debug("Vito 폴링 시도 {} - vitoId: {}", task.attempts, task.vitoTranscriptionId);
+
+        Mono.fromFuture(vitoAuthService::getAccessTokenAsync)
+                .flatMap(jwtToken -> webClient.get()
+                        .uri("/v1/transcribe/{id}", task.vitoTranscriptionId)
+                        .headers(headers -> headers.setBearerAuth(jwtToken))
+                        .retrieve()
+                        .bodyToMono(TranscriptionResult.class)
+                        .doOnError(WebClientResponseException.Unauthorized.class,
+                                e -> vitoAuthService.invalidate(jwtToken)))
+                .timeout(pollProperties.getRequestTimeout())
+                .switchIfEmpty(Mono.error(new IllegalStateException("Vito 폴링 응답이 비어있습니다.")))
+                .doFinally(signal -> inFlightPolls.decrementAndGet())
+                .subscribe(result -> onResult(task, result), error -> onError(task, error));
+    }
+
+    private void onResult(PollTask task, TranscriptionResult result) {
+        task.consecutiveErrors = 0;
+
+        if ("completed".equals(result.getStatus())) {
+            log.info("Vito 전사 완료 - vitoId: {}, 폴링 횟수: {}", task.vitoTranscriptionId, task.attempts);
+            task.result.complete(result);
+            return;
+        }
+        if ("failed".equals(result.getStatus())) {
+            task.result.completeExceptionally(
+                    new IllegalStateException("Vito 전사 실패 - vitoId: " + task.vitoTranscriptionId));
+            return;
+        }
+
+        log.debug("Vito 응답 상태: {} - vitoId: {}", result.getStatus(), task.vitoTranscriptionId);
+        reschedule(task);
+    }
+
+    private void onError(PollTask task, Throwable error) {
+        pollErrorCounter.increment();
+        task.consecutiveErrors++;
+        log.warn("Vito 폴링 중 오류 - 연속 {}회, vitoId: {}, 오류: {}",
+                task.consecutiveErrors, task.vitoTranscriptionId, error.getMessage());
+
+        if (task.consecutiveErrors >= pollProperties.getMaxConsecutiveErrors()) {
+            task.result.completeExceptionally(
+                    new IllegalStateException("전사 결과 조회 실패: " + error.getMessage(), error));
+            return;
+        }
+        reschedule(task);
+    }
+
+    private void reschedule(PollTask task) {
+        task.scheduleAfter(task.interval);
+        task.interval = clamp(Duration.ofMillis((long) (task.interval.toMillis() * pollProperties.getBackoffMultiplier())));
+        pollQueue.offer(task);
+    }
+
+    private Duration scale(long audioDurationSeconds, double ratio) {
+        return Duration.ofMillis((long) (audioDurationSeconds * 1000 * ratio));
+    }
+
+    private Duration clamp(Duration duration) {
+        if (duration.compareTo(pollProperties.getMinInterval()) < 0) {
+            return pollProperties.getMinInterval();
+        }
+        if (duration.compareTo(pollProperties.getMaxInterval()) > 0) {
+            return pollProperties.getMaxInterval();
+        }
+        return duration;
+    }
+
+    /**
+     * 폴링 대상 작업 (다음 폴링 시각 기준으로 정렬)
+     */
+    private static final class PollTask implements Delayed {
+        private final String vitoTranscriptionId;
+        private final long deadlineNanos;
+        private final CompletableFuture<TranscriptionResult> result = new CompletableFuture<>();
+
+        private volatile long nextPollAtNanos;
+        private volatile Duration interval;
+        private volatile int attempts;
+        private volatile int consecutiveErrors;
+
+        private PollTask(String vitoTranscriptionId, Duration interval, long deadlineNanos) {
+            this.vitoTranscriptionId = vitoTranscriptionId;
+            this.interval = interval;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private void scheduleAfter(Duration delay) {
+            this.nextPollAtNanos = System.nanoTime() + delay.toNanos();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(nextPollAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other instanceof PollTask otherTask) {
+                return Long.compare(nextPollAtNanos, otherTask.nextPollAtNanos);
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
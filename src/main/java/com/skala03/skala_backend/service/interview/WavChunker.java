@@ -0,0 +1,205 @@
+package com.skala03.skala_backend.service.interview;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비압축 WAV(PCM) 파일을 겹치는 시간 구간으로 분할
+ * 각 구간은 원본 fmt 헤더를 그대로 복사한 독립 WAV 파일로 기록한다. (샘플 데이터는 FileChannel.transferTo로 복사)
+ */
+public final class WavChunker {
+
+    private static final int RIFF = 0x46464952;
+    private static final int WAVE = 0x45564157;
+    private static final int FMT = 0x20746d66;
+    private static final int DATA = 0x61746164;
+
+    private static final int FORMAT_PCM = 1;
+    private static final int FORMAT_IEEE_FLOAT = 3;
+    private static final int FORMAT_EXTENSIBLE = 0xFFFE;
+
+    private WavChunker() {
+    }
+
+    /**
+     * 분할된 구간 (원본 기준 시작 시각 포함)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Chunk {
+        private final Path path;
+        private final long offsetMillis;
+        private final long durationMillis;
+    }
+
+    /**
+     * 분할 가능한 WAV인지 확인하고 전체 길이(ms) 반환, 분할할 수 없으면 -1
+     */
+    public static long durationMillis(Path wavFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(wavFile, StandardOpenOption.READ)) {
+            WavLayout layout = readLayout(channel);
+            return layout != null ? layout.durationMillis() : -1;
+        }
+    }
+
+    /**
+     * chunkDuration 길이의 구간으로 분할 (인접 구간은 overlap만큼 겹침)
+     * @return 분할된 구간 목록, 분할할 수 없는 포맷이면 빈 목록
+     */
+    public static List<Chunk> split(Path wavFile, Path outputDir, Duration chunkDuration, Duration overlap) throws IOException {
+        if (overlap.compareTo(chunkDuration) >= 0) {
+            throw new IllegalArgumentException("overlap은 chunkDuration보다 짧아야 합니다.");
+        }
+
+        List<Chunk> chunks = new ArrayList<>();
+        try (FileChannel source = FileChannel.open(wavFile, StandardOpenOption.READ)) {
+            WavLayout layout = readLayout(source);
+            if (layout == null) {
+                return chunks;
+            }
+
+            long totalMillis = layout.durationMillis();
+            long chunkMillis = chunkDuration.toMillis();
+            long stepMillis = chunkMillis - overlap.toMillis();
+
+            try {
+                for (long offset = 0; offset < totalMillis; offset += stepMillis) {
+                    long end = Math.min(offset + chunkMillis, totalMillis);
+                    long startByte = layout.alignedBytes(offset);
+                    long endByte = layout.alignedBytes(end);
+
+                    Path chunkFile = outputDir.resolve(UUID.randomUUID() + ".wav");
+                    writeChunk(source, layout, startByte, endByte - startByte, chunkFile);
+                    chunks.add(new Chunk(chunkFile, offset, end - offset));
+
+                    if (end >= totalMillis) {
+                        break;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                for (Chunk chunk : chunks) {
+                    Files.deleteIfExists(chunk.getPath());
+                }
+                throw e;
+            }
+        }
+        return chunks;
+    }
+
+    private static void writeChunk(FileChannel source, WavLayout layout, long startByte, long length, Path target) throws IOException {
+        try (FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(12 + 8 + layout.fmt.length + 8).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(RIFF);
+            header.putInt((int) (4 + 8 + layout.fmt.length + 8 + length));
+            header.putInt(WAVE);
+            header.putInt(FMT);
+            header.putInt(layout.fmt.length);
+            header.put(layout.fmt);
+            header.putInt(DATA);
+            header.putInt((int) length);
+            header.flip();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+
+            long position = layout.dataOffset + startByte;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = source.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    throw new IOException("WAV 구간 복사 실패: " + target);
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    private static WavLayout readLayout(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        if (channel.read(header, 0) < 12 || header.getInt(0) != RIFF || header.getInt(8) != WAVE) {
+            return null;
+        }
+
+        byte[] fmt = null;
+        ByteBuffer chunkHeader = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        long position = 12;
+        while (position + 8 <= channel.size()) {
+            chunkHeader.clear();
+            channel.read(chunkHeader, position);
+            chunkHeader.flip();
+            int chunkId = chunkHeader.getInt();
+            long chunkSize = Integer.toUnsignedLong(chunkHeader.getInt());
+
+            if (chunkId == FMT) {
+                if (chunkSize < 16 || chunkSize > 1024) {
+                    return null;
+                }
+                ByteBuffer fmtBuffer = ByteBuffer.allocate((int) chunkSize);
+                channel.read(fmtBuffer, position + 8);
+                fmt = fmtBuffer.array();
+            } else if (chunkId == DATA) {
+                if (fmt == null) {
+                    return null;
+                }
+                long dataSize = Math.min(chunkSize, channel.size() - position - 8);
+                return WavLayout.of(fmt, position + 8, dataSize);
+            }
+            position += 8 + chunkSize + (chunkSize & 1);
+        }
+        return null;
+    }
+
+    private static final class WavLayout {
+        private final byte[] fmt;
+        private final long dataOffset;
+        private final long dataSize;
+        private final long byteRate;
+        private final int blockAlign;
+
+        private WavLayout(byte[] fmt, long dataOffset, long dataSize, long byteRate, int blockAlign) {
+            this.fmt = fmt;
+            this.dataOffset = dataOffset;
+            this.dataSize = dataSize;
+            this.byteRate = byteRate;
+            this.blockAlign = blockAlign;
+        }
+
+        private static WavLayout of(byte[] fmt, long dataOffset, long dataSize) {
+            ByteBuffer buffer = ByteBuffer.wrap(fmt).order(ByteOrder.LITTLE_ENDIAN);
+            int audioFormat = Short.toUnsignedInt(buffer.getShort(0));
+            long byteRate = Integer.toUnsignedLong(buffer.getInt(8));
+            int blockAlign = Short.toUnsignedInt(buffer.getShort(12));
+
+            // 압축 포맷은 샘플 단위로 자를 수 없음
+            boolean uncompressed = audioFormat == FORMAT_PCM || audioFormat == FORMAT_IEEE_FLOAT
+                    || audioFormat == FORMAT_EXTENSIBLE;
+            if (!uncompressed || byteRate <= 0 || blockAlign <= 0) {
+                return null;
+            }
+            return new WavLayout(fmt, dataOffset, dataSize, byteRate, blockAlign);
+        }
+
+        private long durationMillis() {
+            return dataSize * 1000 / byteRate;
+        }
+
+        // 시각(ms)을 샘플 프레임 경계에 맞춘 data 내 바이트 위치로 변환
+        private long alignedBytes(long millis) {
+            long bytes = Math.min(dataSize, millis * byteRate / 1000);
+            return bytes - (bytes % blockAlign);
+        }
+    }
+}
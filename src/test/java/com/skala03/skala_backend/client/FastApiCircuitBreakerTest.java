@@ -0,0 +1,65 @@
+package com.skala03.skala_backend.client;
+
+import com.skala03.skala_backend.global.config.FastApiProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HALF_OPEN 시험 호출 자리가 상태 전이를 지나서도 정확히 한 번만 반납되는지 확인
+ */
+class FastApiCircuitBreakerTest {
+
+	private FastApiCircuitBreaker circuitBreaker;
+
+	@BeforeEach
+	void setUp() {
+		FastApiProperties properties = new FastApiProperties();
+		properties.getCircuitBreaker().setFailureThreshold(1);
+		// OPEN 직후 바로 HALF_OPEN으로 시험 호출 허용
+		properties.getCircuitBreaker().setOpenDuration(Duration.ZERO);
+		properties.getCircuitBreaker().setHalfOpenMaxCalls(1);
+		circuitBreaker = new FastApiCircuitBreaker(properties, new SimpleMeterRegistry());
+		circuitBreaker.init();
+	}
+
+	@Test
+	void trialCancelledAfterTransitionDoesNotFreeAnExtraSlot() {
+		circuitBreaker.onProbeResult(false);
+		assertThat(circuitBreaker.getState()).isEqualTo(FastApiCircuitBreaker.State.OPEN);
+
+		// 시험 호출 자리를 잡은 채로 대기
+		Disposable trial = circuitBreaker.protect(Mono.never()).subscribe();
+		assertThat(circuitBreaker.getState()).isEqualTo(FastApiCircuitBreaker.State.HALF_OPEN);
+
+		// 그 사이 다시 OPEN (시험 호출 수 초기화) 후 앞선 시험 호출 취소
+		circuitBreaker.onProbeResult(false);
+		trial.dispose();
+
+		// 새 HALF_OPEN에서는 시험 호출 1건만 허용
+		Disposable next = circuitBreaker.protect(Mono.never()).subscribe();
+		assertThatThrownBy(() -> circuitBreaker.protect(Mono.just(1)).block())
+				.isInstanceOf(FastApiCircuitBreaker.OpenException.class);
+		next.dispose();
+	}
+
+	@Test
+	void cancelledTrialReturnsItsSlot() {
+		circuitBreaker.onProbeResult(false);
+
+		Disposable trial = circuitBreaker.protect(Mono.never()).subscribe();
+		assertThatThrownBy(() -> circuitBreaker.protect(Mono.just(1)).block())
+				.isInstanceOf(FastApiCircuitBreaker.OpenException.class);
+
+		trial.dispose();
+		assertThat(circuitBreaker.protect(Mono.just(1)).block()).isEqualTo(1);
+		assertThat(circuitBreaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+	}
+}
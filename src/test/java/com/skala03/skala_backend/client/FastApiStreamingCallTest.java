@@ -0,0 +1,174 @@
+package com.skala03.skala_backend.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.dto.client.FastApiDto;
+import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
+import com.skala03.skala_backend.global.config.FastApiProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * FastAPI 스트리밍 호출의 타임아웃/서킷 집계가 FastAPI 쪽에만 적용되는지 확인
+ * - 결과 저장(resultHandler)이 타임아웃보다 오래 걸려도 FastAPI 타임아웃으로 끊지 않음
+ * - 결과 저장 실패는 서킷 실패로 세지 않고 재시도하지 않으며 원래 예외로 전달
+ * - FastAPI 응답이 조각 사이에서 멈추면 타임아웃
+ */
+@SpringJUnitConfig(classes = {
+		FastApiClient.class,
+		FastApiCallPolicies.class,
+		FastApiCircuitBreaker.class,
+		FastApiProperties.class,
+		FastApiStreamingCallTest.Beans.class
+})
+@TestPropertySource(properties = {
+		"fastapi.operations.full-pipeline.timeout=300ms",
+		"fastapi.operations.full-pipeline.max-retries=1",
+		"fastapi.operations.full-pipeline.backoff=10ms",
+		"fastapi.circuit-breaker.failure-threshold=3"
+})
+class FastApiStreamingCallTest {
+
+	private static final String HEAD = "{\"success\":true,\"session_id\":1,\"evaluation_results\":["
+			+ "{\"applicant_id\":\"A1\",\"evaluation_json\":{\"interview_summary\":\"요약\"}},";
+	private static final String TAIL = "{\"applicant_id\":\"A2\",\"evaluation_json\":{\"interview_summary\":\"요약\"}}"
+			+ "],\"total_processed\":2}";
+
+	private static final AtomicInteger requests = new AtomicInteger();
+	// 두 번째 조각을 보내기 전 멈추는 시간
+	private static volatile long stallMillis;
+
+	private static final DisposableServer FASTAPI = HttpServer.create()
+			.host("localhost")
+			.port(0)
+			.route(routes -> routes.post("/ai/full-pipeline", (request, response) -> request.receive().then()
+					.then(Mono.defer(() -> {
+						requests.incrementAndGet();
+						return response.header("Content-Type", "application/json")
+								.sendString(Flux.concat(
+										Mono.just(HEAD),
+										Mono.delay(Duration.ofMillis(stallMillis)).then(Mono.just(TAIL))))
+								.then();
+					}))))
+			.bindNow();
+
+	@Configuration
+	static class Beans {
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@DynamicPropertySource
+	static void fastApiUrl(DynamicPropertyRegistry registry) {
+		registry.add("fastapi.base-url", () -> "http://localhost:" + FASTAPI.port());
+	}
+
+	@AfterAll
+	static void stopStub() {
+		FASTAPI.disposeNow();
+	}
+
+	@Autowired
+	FastApiClient fastApiClient;
+
+	@Autowired
+	FastApiCircuitBreaker circuitBreaker;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		requests.set(0);
+		stallMillis = 0;
+	}
+
+	@Test
+	void slowResultHandlerDoesNotCountTowardsFastApiTimeout() {
+		List<String> saved = new CopyOnWriteArrayList<>();
+		double timeoutsBefore = timeouts();
+
+		// 지원자 2명 x 400ms 저장 - 타임아웃(300ms)보다 길게 걸림
+		FastApiDto.PipelineResponse response = fastApiClient.callFullPipelineStreaming(request(),
+						result -> Mono.delay(Duration.ofMillis(400))
+								.then(Mono.fromRunnable(() -> saved.add(result.getApplicantId()))))
+				.block(Duration.ofSeconds(10));
+
+		assertThat(response).isNotNull();
+		assertThat(response.isSuccess()).isTrue();
+		assertThat(saved).containsExactly("A1", "A2");
+		assertThat(timeouts()).isEqualTo(timeoutsBefore);
+		assertThat(requests.get()).isEqualTo(1);
+	}
+
+	@Test
+	void resultHandlerFailureIsNotAFastApiFailure() {
+		// 서킷 실패 기준(3회)보다 많이 실패시켜도 CLOSED 유지, 재시도 없음
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> fastApiClient.callFullPipelineStreaming(request(),
+							result -> Mono.error(new IllegalStateException("DB 저장 실패")))
+					.block(Duration.ofSeconds(10)))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessage("DB 저장 실패");
+		}
+
+		assertThat(circuitBreaker.getState()).isEqualTo(FastApiCircuitBreaker.State.CLOSED);
+		assertThat(requests.get()).isEqualTo(4);
+	}
+
+	@Test
+	void stalledFastApiResponseTimesOut() {
+		stallMillis = 2_000;
+		double timeoutsBefore = timeouts();
+
+		assertThatThrownBy(() -> fastApiClient.callFullPipelineStreaming(request(), result -> Mono.empty())
+				.block(Duration.ofSeconds(10)))
+				.hasCauseInstanceOf(TimeoutException.class);
+
+		assertThat(timeouts()).isGreaterThan(timeoutsBefore);
+	}
+
+	private double timeouts() {
+		return meterRegistry.counter("fastapi.calls.timeouts", "operation", "full-pipeline").count();
+	}
+
+	private static InterviewProcessingDto.FastApiRequest request() {
+		return InterviewProcessingDto.FastApiRequest.builder()
+				.sessionId(1)
+				.applicantIds(List.of("A1", "A2"))
+				.applicantNames(List.of("지원자1", "지원자2"))
+				.jobRoleName("백엔드")
+				.rawStt("{}")
+				.build();
+	}
+}
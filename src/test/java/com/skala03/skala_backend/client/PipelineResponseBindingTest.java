@@ -0,0 +1,97 @@
+package com.skala03.skala_backend.client;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.dto.client.FastApiDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * FastAPI 응답의 타입이 달라져도 해당 지원자만 실패하고 나머지 지원자/응답은 그대로 처리되는지 확인
+ * (일괄 응답 바인딩과 스트리밍 파서 모두)
+ */
+class PipelineResponseBindingTest {
+
+	private static final String RESPONSE = "{\"success\":true,\"session_id\":7,\"raw_stt_s3_path\":\"s3://stt/7.json\","
+			+ "\"evaluation_results\":["
+			// 정상
+			+ "{\"applicant_id\":\"A1\",\"evaluation_json\":{\"evaluation_summary\":{\"total_score\":80.5},"
+			+ "\"interview_summary\":\"요약\",\"next_questions\":\"질문\","
+			+ "\"detailed_evaluation\":{\"소통\":{\"final_score\":4,\"score_rationale\":\"근거\"}}}},"
+			// error가 객체
+			+ "{\"applicant_id\":\"A2\",\"evaluation_json\":{\"error\":{\"code\":500,\"detail\":\"LLM timeout\"}}},"
+			// error 키는 있지만 null
+			+ "{\"applicant_id\":\"A3\",\"evaluation_json\":{\"error\":null,\"interview_summary\":\"요약\"}},"
+			// 자유 형식 필드가 배열/객체
+			+ "{\"applicant_id\":\"A4\",\"evaluation_json\":{\"interview_summary\":{\"text\":\"요약\"},"
+			+ "\"next_questions\":[\"질문1\",\"질문2\"],"
+			+ "\"detailed_evaluation\":{\"소통\":{\"final_score\":3,\"score_rationale\":[\"근거1\",\"근거2\"]}}}},"
+			// 점수 타입 불일치
+			+ "{\"applicant_id\":\"A5\",\"evaluation_json\":{\"evaluation_summary\":{\"total_score\":{\"value\":1}}}}"
+			+ "],\"total_processed\":5}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	@Test
+	void bufferedResponseIsolatesTypeDriftPerApplicant() throws Exception {
+		FastApiDto.PipelineResponse response = objectMapper.readValue(RESPONSE, FastApiDto.PipelineResponse.class);
+
+		assertThat(response.getSessionId()).isEqualTo(7);
+		assertResults(response.getEvaluationResults());
+	}
+
+	@Test
+	void streamingParserIsolatesTypeDriftPerApplicant() throws Exception {
+		PipelineResponseStreamParser parser = new PipelineResponseStreamParser(objectMapper);
+		byte[] bytes = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+		List<FastApiDto.ApplicantResult> results = new ArrayList<>();
+		for (int offset = 0; offset < bytes.length; offset += 7) {
+			byte[] chunk = Arrays.copyOfRange(bytes, offset, Math.min(offset + 7, bytes.length));
+			results.addAll(parser.feed(DefaultDataBufferFactory.sharedInstance.wrap(chunk)));
+		}
+		FastApiDto.PipelineResponse response = parser.finish();
+
+		assertThat(response.getSessionId()).isEqualTo(7);
+		assertThat(response.getRawSttS3Path()).isEqualTo("s3://stt/7.json");
+		assertResults(results);
+	}
+
+	private static void assertResults(List<FastApiDto.ApplicantResult> results) {
+		assertThat(results).hasSize(5);
+		Map<String, FastApiDto.ApplicantResult> byId = results.stream()
+				.collect(Collectors.toMap(FastApiDto.ApplicantResult::getApplicantId, Function.identity()));
+
+		FastApiDto.ApplicantResult ok = byId.get("A1");
+		assertThat(ok.hasBindingError()).isFalse();
+		assertThat(ok.getEvaluationJson().hasError()).isFalse();
+		assertThat(ok.getEvaluationJson().getDetailedEvaluation().get("소통").getFinalScore()).isEqualTo(4);
+
+		assertThat(byId.get("A2").hasBindingError()).isFalse();
+		assertThat(byId.get("A2").getEvaluationJson().hasError()).isTrue();
+
+		assertThat(byId.get("A3").hasBindingError()).isFalse();
+		assertThat(byId.get("A3").getEvaluationJson().hasError()).isTrue();
+
+		FastApiDto.EvaluationJson lenient = byId.get("A4").getEvaluationJson();
+		assertThat(byId.get("A4").hasBindingError()).isFalse();
+		assertThat(lenient.hasError()).isFalse();
+		assertThat(lenient.getInterviewSummary()).isEqualTo("{\"text\":\"요약\"}");
+		assertThat(lenient.getNextQuestions()).isEqualTo("질문1\n질문2");
+		assertThat(lenient.getDetailedEvaluation().get("소통").getScoreRationale()).isEqualTo("근거1\n근거2");
+
+		assertThat(byId.get("A5").hasBindingError()).isTrue();
+		assertThat(byId.get("A5").getEvaluationJson()).isNull();
+	}
+}
@@ -0,0 +1,83 @@
+package com.skala03.skala_backend.service.admin;
+
+import com.skala03.skala_backend.entity.admin.Keyword;
+import com.skala03.skala_backend.repository.admin.KeywordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 모르는 키워드 이름/ID로 동시에 여러 요청이 와도 keywords 테이블은 한 번만 다시 읽는지 확인
+ */
+class KeywordDictionaryTest {
+
+	private static final int THREADS = 16;
+
+	private final KeywordRepository keywordRepository = mock(KeywordRepository.class);
+	private KeywordDictionary keywordDictionary;
+
+	@BeforeEach
+	void setUp() {
+		Keyword keyword = new Keyword();
+		keyword.setKeywordId(1);
+		keyword.setKeywordName("소통");
+		// DB 조회가 느린 상황 - 그 사이 다른 miss가 잠금에서 기다리게 됨
+		when(keywordRepository.findAll()).thenAnswer(invocation -> {
+			Thread.sleep(100);
+			return List.of(keyword);
+		});
+
+		keywordDictionary = new KeywordDictionary(keywordRepository, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(keywordDictionary, "missRefreshInterval", Duration.ofMillis(50));
+		keywordDictionary.init();
+	}
+
+	@Test
+	void concurrentMissesReloadOnce() throws Exception {
+		keywordDictionary.refresh();
+		Thread.sleep(80);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				int index = i;
+				futures.add(executor.submit(() -> {
+					start.await();
+					if (index % 2 == 0) {
+						assertThat(keywordDictionary.resolveIds(List.of("없는 키워드"))).isEmpty();
+					} else {
+						assertThat(keywordDictionary.findName(999)).isEmpty();
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// 처음 적재 1번 + miss로 다시 읽기 1번
+		verify(keywordRepository, times(2)).findAll();
+	}
+}
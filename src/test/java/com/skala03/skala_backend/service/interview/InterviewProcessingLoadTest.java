@@ -0,0 +1,184 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skala03.skala_backend.client.FastApiCallPolicies;
+import com.skala03.skala_backend.client.FastApiCircuitBreaker;
+import com.skala03.skala_backend.client.FastApiClient;
+import com.skala03.skala_backend.dto.interview.InterviewProcessingDto;
+import com.skala03.skala_backend.global.config.FastApiProperties;
+import com.skala03.skala_backend.repository.admin.AdminRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.LoopResources;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 면접 파이프라인 동시 호출 부하 테스트
+ * - FastAPI 스텁이 300~500ms 뒤 응답, processFullPipelineAsync를 N건 동시에 호출 (요청은 2ms 간격, 응답 대기는 모두 겹침)
+ * - 응답 대기 중에는 스레드를 잡지 않으므로 N이 늘어도 JVM 스레드 수는 거의 그대로
+ *   (블로킹 방식이었다면 호출 1건당 스레드 1개씩 늘어남)
+ * - 동시에 FastAPI로 나가는 요청 수는 fastapi-pool 커넥션 수(30)로 제한
+ */
+@SpringJUnitConfig(classes = {
+		InterviewProcessingService.class,
+		FastApiClient.class,
+		FastApiCallPolicies.class,
+		FastApiCircuitBreaker.class,
+		FastApiProperties.class,
+		InterviewProcessingLoadTest.Beans.class
+})
+class InterviewProcessingLoadTest {
+
+	private static final int POOL_SIZE = 30;
+	// 커넥션 풀 대기열(최대 커넥션의 2배)을 넘지 않는 범위
+	private static final int[] CONCURRENCY = {10, 40, 80};
+	// 이벤트 루프/boundedElastic 워커 생성 등 N과 무관한 증가분
+	private static final int THREAD_SLACK = 10;
+
+	private static final String RESPONSE = "{\"success\":true,\"message\":\"ok\",\"session_id\":1,"
+			+ "\"evaluation_results\":[],\"total_processed\":0,\"successful_count\":0,\"failed_count\":0}";
+
+	private static final AtomicInteger requests = new AtomicInteger();
+	private static final AtomicInteger inFlight = new AtomicInteger();
+	private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+	// 스텁 서버는 전용 루프 2개로 실행 (클라이언트 스레드 측정에 섞이지 않도록)
+	private static final LoopResources STUB_LOOPS = LoopResources.create("fastapi-stub", 2, true);
+	private static final DisposableServer FASTAPI = HttpServer.create()
+			.host("localhost")
+			.port(0)
+			.runOn(STUB_LOOPS)
+			.route(routes -> routes.post("/ai/full-pipeline", (request, response) -> request.receive().then()
+					.then(Mono.defer(() -> {
+						int current = inFlight.incrementAndGet();
+						peakInFlight.accumulateAndGet(current, Math::max);
+						// 응답 시각을 흩어서 도착시킴
+						return Mono.delay(Duration.ofMillis(300 + (requests.getAndIncrement() % 20) * 10L));
+					}))
+					.then(Mono.defer(() -> {
+						inFlight.decrementAndGet();
+						return response.header("Content-Type", "application/json")
+								.sendString(Mono.just(RESPONSE))
+								.then();
+					}))))
+			.bindNow();
+
+	@Configuration
+	static class Beans {
+		@Bean
+		ObjectMapper objectMapper() {
+			return new ObjectMapper();
+		}
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@DynamicPropertySource
+	static void fastApiUrl(DynamicPropertyRegistry registry) {
+		registry.add("fastapi.base-url", () -> "http://localhost:" + FASTAPI.port());
+	}
+
+	@AfterAll
+	static void stopStub() {
+		FASTAPI.disposeNow();
+		STUB_LOOPS.dispose();
+	}
+
+	@MockitoBean
+	AdminRepository adminRepository;
+
+	@MockitoBean
+	PipelineResultWriter pipelineResultWriter;
+
+	@MockitoBean
+	EvaluationCriteriaCache evaluationCriteriaCache;
+
+	@Autowired
+	InterviewProcessingService interviewProcessingService;
+
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	@BeforeEach
+	void setUp() {
+		when(evaluationCriteriaCache.get(anyString(), any()))
+				.thenReturn(Map.of("소통", Map.of("5", "명확하게 설명함")));
+	}
+
+	@Test
+	void threadCountStaysFlatAsConcurrencyGrows() throws Exception {
+		// 워밍업 - 커넥션 풀, 이벤트 루프, boundedElastic 워커를 미리 만들어 둠
+		fire(POOL_SIZE);
+
+		List<Integer> growth = new ArrayList<>();
+		for (int concurrency : CONCURRENCY) {
+			peakInFlight.set(0);
+			int baseline = threads.getThreadCount();
+			threads.resetPeakThreadCount();
+
+			fire(concurrency);
+
+			growth.add(threads.getPeakThreadCount() - baseline);
+			assertThat(peakInFlight.get()).isLessThanOrEqualTo(POOL_SIZE);
+		}
+
+		// 동시 호출이 8배로 늘어도 스레드 증가는 N에 비례하지 않음
+		int smallest = growth.get(0);
+		for (int i = 1; i < growth.size(); i++) {
+			assertThat(growth.get(i))
+					.as("동시 호출 %d건의 스레드 증가 (10건: %d)", CONCURRENCY[i], smallest)
+					.isLessThanOrEqualTo(smallest + THREAD_SLACK);
+		}
+		// 가장 큰 부하에서는 풀 크기만큼 동시에 FastAPI를 호출 (스레드가 아니라 커넥션 수가 한도)
+		assertThat(peakInFlight.get()).isEqualTo(POOL_SIZE);
+	}
+
+	private void fire(int concurrency) throws Exception {
+		List<CompletableFuture<InterviewProcessingDto.ProcessingResponse>> futures = new ArrayList<>();
+		for (int i = 0; i < concurrency; i++) {
+			futures.add(interviewProcessingService.processFullPipelineAsync(InterviewProcessingDto.ProcessingRequest.builder()
+					.sessionId(i)
+					.applicantIds(List.of("A" + i))
+					.applicantNames(List.of("지원자" + i))
+					.jobRoleName("백엔드")
+					.rawStt("stt")
+					.build()));
+			// 요청 도착을 2ms 간격으로 흩음 (N건 모두 응답 대기 구간이 겹치는 동시 호출)
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2));
+		}
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+		for (CompletableFuture<InterviewProcessingDto.ProcessingResponse> future : futures) {
+			assertThat(future.join().isSuccess()).as(future.join().getMessage()).isTrue();
+		}
+	}
+}
@@ -0,0 +1,254 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.auth.User;
+import com.skala03.skala_backend.entity.interview.InterviewRoom;
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.global.config.PresenceProperties;
+import com.skala03.skala_backend.repository.auth.UserRepository;
+import com.skala03.skala_backend.repository.interview.InterviewRoomRepository;
+import com.skala03.skala_backend.repository.interview.RoomParticipantRepository;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import com.skala03.skala_backend.service.admin.KeywordDictionary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 면접 시작/종료 시 면접관 수와 관계없이 실행되는 SQL 문 수가 일정한지 확인
+ * (Hibernate 통계의 prepared statement 수, 지연 로딩/참가자 상태 일괄 기록까지 포함)
+ * 참가자 상태 폴링의 세션 ID 캐시와 OFFLINE 방 정리도 함께 확인
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+		InterviewSessionService.class,
+		SessionStateMachine.class,
+		RoomPresenceRegistry.class,
+		PresenceProperties.class,
+		InterviewSessionServiceTest.Beans.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class InterviewSessionServiceTest {
+
+	private static final int[] PANEL_SIZES = {1, 5, 20};
+
+	@TestConfiguration
+	static class Beans {
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+	}
+
+	@MockitoBean
+	RoomEventPublisher roomEventPublisher;
+
+	@MockitoBean
+	KeywordDictionary keywordDictionary;
+
+	@Autowired
+	InterviewSessionService interviewSessionService;
+
+	@Autowired
+	RoomPresenceRegistry roomPresenceRegistry;
+
+	@Autowired
+	SessionRepository sessionRepository;
+
+	@Autowired
+	InterviewRoomRepository interviewRoomRepository;
+
+	@Autowired
+	RoomParticipantRepository roomParticipantRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	void startAndEndInterviewIssueConstantStatementsRegardlessOfPanelSize() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		Map<Integer, Long> startStatements = new LinkedHashMap<>();
+		Map<Integer, Long> endStatements = new LinkedHashMap<>();
+
+		for (int panelSize : PANEL_SIZES) {
+			String roomId = "room-panel-" + panelSize;
+			String leaderId = roomId + "-leader";
+			List<String> interviewerIds = IntStream.rangeClosed(1, panelSize)
+					.mapToObj(i -> roomId + "-sk-" + i)
+					.collect(Collectors.toCollection(ArrayList::new));
+			Integer sessionId = givenRoom(roomId, leaderId, interviewerIds);
+
+			// 면접 시작 + 참가자 상태 DB 기록
+			statistics.clear();
+			assertThat(interviewSessionService.startInterview(roomId, sessionId, leaderId)).isTrue();
+			roomPresenceRegistry.flush();
+			startStatements.put(panelSize, statistics.getPrepareStatementCount());
+
+			// 면접 종료 + 참가자 상태 DB 기록
+			statistics.clear();
+			interviewSessionService.endInterview(roomId, sessionId);
+			roomPresenceRegistry.flush();
+			endStatements.put(panelSize, statistics.getPrepareStatementCount());
+
+			assertThat(sessionRepository.findStatusBySessionId(sessionId)).contains(Session.SessionStatus.COMPLETED);
+			assertThat(roomParticipantRepository.findByRoomId(roomId))
+					.filteredOn(p -> interviewerIds.contains(p.getUserId()))
+					.allMatch(p -> p.getParticipantStatus() == RoomParticipant.ParticipantStatus.WAITING);
+		}
+
+		assertThat(startStatements.values()).as("startInterview SQL 문 수 %s", startStatements).containsOnly(
+				startStatements.get(PANEL_SIZES[0]));
+		assertThat(endStatements.values()).as("endInterview SQL 문 수 %s", endStatements).containsOnly(
+				endStatements.get(PANEL_SIZES[0]));
+	}
+
+	@Test
+	void participantStatusPollsReadSessionIdFromMemoryUntilSessionStatusChanges() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		String roomId = "room-poll";
+		String leaderId = roomId + "-leader";
+		String interviewerId = roomId + "-sk-1";
+		Integer sessionId = givenRoom(roomId, leaderId, List.of(interviewerId));
+
+		// 아직 WAITING 세션 없음 - 첫 폴링만 DB 조회
+		assertThat(interviewSessionService.getParticipantStatus(roomId, interviewerId).get("sessionId")).isNull();
+		statistics.clear();
+		assertThat(interviewSessionService.getParticipantStatus(roomId, interviewerId).get("sessionId")).isNull();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		// 세션 상태가 바뀌면 캐시 무효화 후 다시 조회
+		assertThat(interviewSessionService.startInterview(roomId, sessionId, leaderId)).isTrue();
+		assertThat(interviewSessionService.getParticipantStatus(roomId, interviewerId).get("sessionId")).isEqualTo(sessionId);
+		statistics.clear();
+		assertThat(interviewSessionService.getParticipantStatus(roomId, interviewerId).get("sessionId")).isEqualTo(sessionId);
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+
+		interviewSessionService.endInterview(roomId, sessionId);
+		assertThat(interviewSessionService.getParticipantStatus(roomId, interviewerId).get("sessionId")).isNull();
+	}
+
+	@Test
+	void roomIsEvictedOnceEveryParticipantIsOfflineAndFlushed() {
+		String roomId = "room-evict";
+		String leaderId = roomId + "-leader";
+		List<String> interviewerIds = List.of(roomId + "-sk-1", roomId + "-sk-2");
+		givenRoom(roomId, leaderId, interviewerIds);
+
+		List<String> everyone = new ArrayList<>(interviewerIds);
+		everyone.add(leaderId);
+		// 다른 테스트가 적재한 방은 접속 중이므로 그대로 남음
+		double loadedRooms = loadedRooms();
+		for (String userId : everyone) {
+			interviewSessionService.enterSessionList(roomId, userId);
+		}
+		roomPresenceRegistry.flush();
+		assertThat(loadedRooms()).isEqualTo(loadedRooms + 1);
+
+		// 한 명이라도 접속 중이면 유지
+		for (String userId : interviewerIds) {
+			interviewSessionService.endSession(roomId, userId);
+		}
+		roomPresenceRegistry.flush();
+		assertThat(loadedRooms()).isEqualTo(loadedRooms + 1);
+
+		// 모두 OFFLINE + DB 기록 후 메모리에서 내림
+		interviewSessionService.endSession(roomId, leaderId);
+		roomPresenceRegistry.flush();
+		assertThat(loadedRooms()).isEqualTo(loadedRooms);
+		assertThat(roomParticipantRepository.findByRoomId(roomId))
+				.allMatch(p -> p.getParticipantStatus() == RoomParticipant.ParticipantStatus.OFFLINE);
+
+		// 다시 쓰이면 DB에서 적재
+		assertThat(roomPresenceRegistry.findRoom(roomId)).hasSize(everyone.size())
+				.allMatch(p -> p.getStatus() == RoomParticipant.ParticipantStatus.OFFLINE);
+
+		// 다시 입장한 상태 변경은 적재된 방에 반영되어 DB까지 기록
+		interviewSessionService.enterSessionList(roomId, leaderId);
+		roomPresenceRegistry.flush();
+		assertThat(roomPresenceRegistry.find(roomId, leaderId))
+				.hasValueSatisfying(p -> assertThat(p.getStatus()).isEqualTo(RoomParticipant.ParticipantStatus.WAITING));
+		assertThat(roomParticipantRepository.findByRoomId(roomId))
+				.filteredOn(p -> p.getUserId().equals(leaderId))
+				.singleElement()
+				.extracting(RoomParticipant::getParticipantStatus)
+				.isEqualTo(RoomParticipant.ParticipantStatus.WAITING);
+	}
+
+	private double loadedRooms() {
+		return meterRegistry.get("presence.rooms").gauge().value();
+	}
+
+	// 방장 1명 + 면접관 panelSize명이 모두 WAITING인 방과 SCHEDULED 세션
+	private Integer givenRoom(String roomId, String leaderId, List<String> interviewerIds) {
+		List<String> userIds = new ArrayList<>(interviewerIds);
+		userIds.add(leaderId);
+		userRepository.saveAll(userIds.stream()
+				.map(userId -> User.builder()
+						.userId(userId)
+						.userEmail(userId + "@sk.com")
+						.userPassword("password")
+						.userName(userId)
+						.userRole(User.Role.INTERVIEWER)
+						.build())
+				.collect(Collectors.toList()));
+
+		InterviewRoom room = new InterviewRoom();
+		room.setRoomId(roomId);
+		room.setRoomName(roomId);
+		room.setLeaderUserId(leaderId);
+		interviewRoomRepository.save(room);
+
+		List<RoomParticipant> participants = new ArrayList<>();
+		for (String userId : userIds) {
+			RoomParticipant participant = new RoomParticipant();
+			participant.setRoomId(roomId);
+			participant.setUserId(userId);
+			participant.setParticipantRole(userId.equals(leaderId)
+					? RoomParticipant.ParticipantRole.LEADER : RoomParticipant.ParticipantRole.MEMBER);
+			participant.setParticipantStatus(RoomParticipant.ParticipantStatus.WAITING);
+			participants.add(participant);
+		}
+		roomParticipantRepository.saveAll(participants);
+
+		Session session = new Session();
+		session.setRoomId(roomId);
+		session.setSessionName("1회차");
+		session.setSessionDate(LocalDateTime.now());
+		session.setSessionTime(LocalDateTime.now());
+		session.setSessionStatus(Session.SessionStatus.SCHEDULED);
+		session.setInterviewersUserId(String.join(",", interviewerIds));
+		sessionRepository.save(session);
+		return session.getSessionId();
+	}
+}
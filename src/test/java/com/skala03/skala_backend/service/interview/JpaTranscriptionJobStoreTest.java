@@ -0,0 +1,95 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionJobRecord;
+import com.skala03.skala_backend.entity.interview.TranscriptionJob;
+import com.skala03.skala_backend.repository.interview.TranscriptionJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시작 등으로 처리 인스턴스가 사라진 processing 작업에 재업로드가 연결되지 않는지 확인
+ * (processing-timeout 3m)
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaTranscriptionJobStore.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaTranscriptionJobStoreTest {
+
+	@Autowired
+	JpaTranscriptionJobStore jpaTranscriptionJobStore;
+
+	@Autowired
+	TranscriptionJobRepository transcriptionJobRepository;
+
+	@Test
+	void orphanedProcessingJobIsNotReused() {
+		String contentKey = UUID.randomUUID() + ":2";
+		String orphanId = insert(contentKey, TranscriptionJobRecord.STATUS_PROCESSING, LocalDateTime.now().minusMinutes(10));
+
+		assertThat(jpaTranscriptionJobStore.findReusableByContentKey(contentKey)).isEmpty();
+
+		// 처리 중인 인스턴스가 heartbeat를 보내는 작업은 연결
+		jpaTranscriptionJobStore.touch(List.of(orphanId));
+		assertThat(jpaTranscriptionJobStore.findReusableByContentKey(contentKey))
+				.map(TranscriptionJobRecord::getTranscriptionId)
+				.contains(orphanId);
+	}
+
+	@Test
+	void completedJobIsReusedRegardlessOfAge() {
+		String contentKey = UUID.randomUUID() + ":2";
+		String completedId = insert(contentKey, TranscriptionJobRecord.STATUS_COMPLETED, LocalDateTime.now().minusDays(3));
+		insert(contentKey, TranscriptionJobRecord.STATUS_PROCESSING, LocalDateTime.now().minusHours(1));
+
+		assertThat(jpaTranscriptionJobStore.findReusableByContentKey(contentKey))
+				.map(TranscriptionJobRecord::getTranscriptionId)
+				.contains(completedId);
+	}
+
+	@Test
+	void sweepFailsOnlyOrphanedProcessingJobs() {
+		String contentKey = UUID.randomUUID() + ":2";
+		String orphanId = insert(contentKey, TranscriptionJobRecord.STATUS_PROCESSING, LocalDateTime.now().minusMinutes(10));
+		String aliveId = insert(contentKey, TranscriptionJobRecord.STATUS_PROCESSING, LocalDateTime.now());
+
+		jpaTranscriptionJobStore.failOrphanedProcessing();
+
+		assertThat(status(orphanId)).isEqualTo(TranscriptionJobRecord.STATUS_FAILED);
+		assertThat(status(aliveId)).isEqualTo(TranscriptionJobRecord.STATUS_PROCESSING);
+		assertThat(jpaTranscriptionJobStore.findReusableByContentKey(contentKey))
+				.map(TranscriptionJobRecord::getTranscriptionId)
+				.contains(aliveId);
+	}
+
+	private String insert(String contentKey, String status, LocalDateTime updatedAt) {
+		TranscriptionJob job = new TranscriptionJob();
+		job.setTranscriptionId(UUID.randomUUID().toString());
+		job.setContentKey(contentKey);
+		job.setStatus(status);
+		job.setResultJson(TranscriptionJobRecord.STATUS_COMPLETED.equals(status) ? "[]" : null);
+		job.setCreatedAt(updatedAt);
+		job.setUpdatedAt(updatedAt);
+		return transcriptionJobRepository.save(job).getTranscriptionId();
+	}
+
+	private String status(String transcriptionId) {
+		return transcriptionJobRepository.findById(transcriptionId).orElseThrow().getStatus();
+	}
+}
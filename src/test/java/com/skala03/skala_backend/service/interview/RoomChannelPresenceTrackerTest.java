@@ -0,0 +1,121 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.RoomParticipant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * STOMP 채널만 쓰는 클라이언트도 presence가 갱신되고, 연결이 끊기면 OFFLINE 되는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class RoomChannelPresenceTrackerTest {
+
+	private static final String ROOM_ID = "room-1";
+	private static final String USER_ID = "sk-1";
+
+	@Mock
+	RoomPresenceRegistry roomPresenceRegistry;
+
+	@InjectMocks
+	RoomChannelPresenceTracker tracker;
+
+	@Test
+	void connectSubscribeAndHeartbeatsRefreshPresence() {
+		tracker.onConnect(new SessionConnectEvent(this, connect("s-1", null)));
+		// roomId 없이 연결하면 구독 전까지는 갱신할 방이 없음
+		verify(roomPresenceRegistry, never()).heartbeat(anyString(), anyString());
+
+		tracker.onSubscribe(new SessionSubscribeEvent(this, subscribe("s-1", "/topic/rooms/" + ROOM_ID)));
+		tracker.preSend(heartbeat("s-1"), mock(MessageChannel.class));
+		tracker.preSend(heartbeat("s-1"), mock(MessageChannel.class));
+
+		verify(roomPresenceRegistry, times(3)).heartbeat(ROOM_ID, USER_ID);
+	}
+
+	@Test
+	void connectWithRoomHeaderRefreshesImmediately() {
+		tracker.onConnect(new SessionConnectEvent(this, connect("s-1", ROOM_ID)));
+
+		verify(roomPresenceRegistry, times(1)).heartbeat(ROOM_ID, USER_ID);
+	}
+
+	@Test
+	void disconnectMarksOfflineOnlyAfterLastConnection() {
+		tracker.onConnect(new SessionConnectEvent(this, connect("s-1", ROOM_ID)));
+		tracker.onConnect(new SessionConnectEvent(this, connect("s-2", ROOM_ID)));
+
+		tracker.onDisconnect(disconnect("s-1"));
+		verify(roomPresenceRegistry, never()).updateStatus(anyString(), anyString(), any());
+
+		tracker.onDisconnect(disconnect("s-2"));
+		verify(roomPresenceRegistry, times(1))
+				.updateStatus(ROOM_ID, USER_ID, RoomParticipant.ParticipantStatus.OFFLINE);
+
+		// 끊긴 연결의 heart-beat는 무시
+		tracker.preSend(heartbeat("s-2"), mock(MessageChannel.class));
+		verify(roomPresenceRegistry, times(2)).heartbeat(ROOM_ID, USER_ID);
+	}
+
+	@Test
+	void nonParticipantIsIgnored() {
+		when(roomPresenceRegistry.heartbeat(ROOM_ID, USER_ID))
+				.thenThrow(new IllegalArgumentException("해당 방의 참가자를 찾을 수 없습니다."));
+
+		tracker.onConnect(new SessionConnectEvent(this, connect("s-1", ROOM_ID)));
+		tracker.preSend(heartbeat("s-1"), mock(MessageChannel.class));
+
+		verify(roomPresenceRegistry, times(2)).heartbeat(ROOM_ID, USER_ID);
+	}
+
+	private static Message<byte[]> connect(String sessionId, String roomId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+		accessor.setSessionId(sessionId);
+		accessor.addNativeHeader(RoomChannelPresenceTracker.USER_ID_HEADER, USER_ID);
+		if (roomId != null) {
+			accessor.addNativeHeader(RoomChannelPresenceTracker.ROOM_ID_HEADER, roomId);
+		}
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private static Message<byte[]> subscribe(String sessionId, String destination) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+		accessor.setSessionId(sessionId);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private static Message<byte[]> heartbeat(String sessionId) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.HEARTBEAT);
+		accessor.setSessionId(sessionId);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private SessionDisconnectEvent disconnect(String sessionId) {
+		StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+		accessor.setSessionId(sessionId);
+		return new SessionDisconnectEvent(this, MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()),
+				sessionId, CloseStatus.NORMAL);
+	}
+}
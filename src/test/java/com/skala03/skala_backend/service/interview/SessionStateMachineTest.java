@@ -0,0 +1,199 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.entity.interview.InterviewRoom;
+import com.skala03.skala_backend.entity.interview.Session;
+import com.skala03.skala_backend.repository.interview.InterviewRoomRepository;
+import com.skala03.skala_backend.repository.interview.SessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 세션에 상태 전이를 동시에 수백 건 요청해도
+ * 조건부 UPDATE 한 문장으로 처리되어 전이마다 정확히 한 요청만 성공하는지 확인
+ * (면접관/지원자 목록 백필이 동시 상태 전이와 충돌하지 않는지도 확인)
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SessionStateMachine.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SessionStateMachineTest {
+
+	private static final String ROOM_ID = "room-state-machine";
+	private static final int THREADS = 32;
+
+	@Autowired
+	SessionStateMachine sessionStateMachine;
+
+	@Autowired
+	SessionRepository sessionRepository;
+
+	@Autowired
+	InterviewRoomRepository interviewRoomRepository;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private Integer sessionId;
+
+	@BeforeEach
+	void setUp() {
+		if (!interviewRoomRepository.existsById(ROOM_ID)) {
+			InterviewRoom room = new InterviewRoom();
+			room.setRoomId(ROOM_ID);
+			room.setRoomName("상태 전이 테스트");
+			interviewRoomRepository.save(room);
+		}
+
+		Session session = new Session();
+		session.setRoomId(ROOM_ID);
+		session.setSessionName("1회차");
+		session.setSessionDate(LocalDateTime.now());
+		session.setSessionTime(LocalDateTime.now());
+		session.setSessionStatus(Session.SessionStatus.SCHEDULED);
+		session.setInterviewersUserId("sk-1,sk-2");
+		// 새 세션은 persist되어 넘긴 인스턴스 그대로 관리됨 (merge 사본이 아님)
+		assertThat(sessionRepository.save(session)).isSameAs(session);
+		sessionId = session.getSessionId();
+		assertThat(sessionId).isNotNull();
+		assertThat(session.getVersion()).isZero();
+	}
+
+	@Test
+	void concurrentStartsLetExactlyOneWin() throws Exception {
+		int attempts = 200;
+		List<Callable<Boolean>> calls = new ArrayList<>();
+		for (int i = 0; i < attempts; i++) {
+			calls.add(() -> sessionStateMachine.tryTransition(sessionId, SessionStateMachine.Transition.START_INTERVIEW));
+		}
+
+		List<Boolean> results = fireTogether(calls);
+
+		assertThat(results).filteredOn(Boolean::booleanValue).hasSize(1);
+		Session session = sessionRepository.findById(sessionId).orElseThrow();
+		assertThat(session.getSessionStatus()).isEqualTo(Session.SessionStatus.WAITING);
+		assertThat(session.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void concurrentMixedTransitionsFollowTable() throws Exception {
+		SessionStateMachine.Transition[] transitions = SessionStateMachine.Transition.values();
+		List<SessionStateMachine.Transition> requested = new ArrayList<>();
+		List<Callable<Boolean>> calls = new ArrayList<>();
+		for (int i = 0; i < 300; i++) {
+			SessionStateMachine.Transition transition = transitions[i % transitions.length];
+			requested.add(transition);
+			calls.add(() -> sessionStateMachine.tryTransition(sessionId, transition));
+		}
+
+		List<Boolean> results = fireTogether(calls);
+
+		Map<SessionStateMachine.Transition, Integer> wins = new EnumMap<>(SessionStateMachine.Transition.class);
+		for (int i = 0; i < results.size(); i++) {
+			if (results.get(i)) {
+				wins.merge(requested.get(i), 1, Integer::sum);
+			}
+		}
+		int totalWins = wins.values().stream().mapToInt(Integer::intValue).sum();
+
+		// 상태가 바뀔 때마다 version이 1씩 증가하고, 같은 전이가 두 번 성공하는 일은 없음
+		Session session = sessionRepository.findById(sessionId).orElseThrow();
+		assertThat(session.getVersion()).isEqualTo((long) totalWins);
+		assertThat(wins.values()).allMatch(count -> count == 1);
+		// COMPLETED는 종료 상태이므로 전이가 한 번이라도 일어났다면 마지막은 항상 COMPLETED까지 도달
+		assertThat(session.getSessionStatus()).isEqualTo(Session.SessionStatus.COMPLETED);
+		assertThat(totalWins).isBetween(1, 3);
+	}
+
+	@Test
+	void illegalTransitionIsRejectedWithoutChangingVersion() {
+		assertThatThrownBy(() -> sessionStateMachine.transition(sessionId, SessionStateMachine.Transition.COMPLETE))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining(Session.SessionStatus.SCHEDULED.name());
+		assertThatThrownBy(() -> sessionStateMachine.transition(-1, SessionStateMachine.Transition.COMPLETE))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		Session session = sessionRepository.findById(sessionId).orElseThrow();
+		assertThat(session.getSessionStatus()).isEqualTo(Session.SessionStatus.SCHEDULED);
+		assertThat(session.getVersion()).isZero();
+	}
+
+	private static List<Boolean> fireTogether(List<Callable<Boolean>> calls) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch gate = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (Callable<Boolean> call : calls) {
+				futures.add(executor.submit(() -> {
+					gate.await();
+					return call.call();
+				}));
+			}
+			gate.countDown();
+
+			List<Boolean> results = new ArrayList<>();
+			for (Future<Boolean> future : futures) {
+				results.add(future.get(30, TimeUnit.SECONDS));
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void membershipBackfillDoesNotConflictWithConcurrentTransition() throws Exception {
+		// DB에 직접 입력된 세션처럼 목록 테이블만 비움
+		jdbcTemplate.update("DELETE FROM session_interviewers WHERE session_id = ?", sessionId);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Boolean synced = transactionTemplate.execute(status -> {
+				Session session = sessionRepository.findById(sessionId).orElseThrow();
+				// 읽은 뒤 기록하기 전에 다른 트랜잭션이 상태 전이 (version 증가)
+				try {
+					assertThat(executor.submit(() -> sessionStateMachine.tryTransition(
+							sessionId, SessionStateMachine.Transition.START_INTERVIEW)).get(10, TimeUnit.SECONDS)).isTrue();
+				} catch (Exception e) {
+					throw new IllegalStateException(e);
+				}
+				return session.syncMembers();
+			});
+			assertThat(synced).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(jdbcTemplate.queryForList(
+				"SELECT user_id FROM session_interviewers WHERE session_id = ?", String.class, sessionId))
+				.containsExactlyInAnyOrder("sk-1", "sk-2");
+		assertThat(sessionRepository.findStatusBySessionId(sessionId)).contains(Session.SessionStatus.WAITING);
+	}
+}
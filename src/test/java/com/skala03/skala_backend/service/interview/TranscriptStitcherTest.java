@@ -0,0 +1,79 @@
+package com.skala03.skala_backend.service.interview;
+
+import com.skala03.skala_backend.dto.interview.TranscriptionResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptStitcherTest {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void stitchShiftsOffsetsAndMapsSpeakersAcrossOverlap() {
+		// 구간 0: 0~100초, 구간 1: 70~170초 (겹침 70~100초, 경계 85초)
+		TranscriptStitcher.ChunkTranscript first = new TranscriptStitcher.ChunkTranscript(0, 100_000, List.of(
+				utterance(0, 1_000, 5_000, "a"),
+				utterance(1, 60_000, 10_000, "b"),
+				utterance(0, 75_000, 8_000, "c"),
+				utterance(1, 90_000, 8_000, "d")));
+		// 구간 1에서는 화자 번호가 뒤바뀌고, 새 화자(2)가 등장
+		TranscriptStitcher.ChunkTranscript second = new TranscriptStitcher.ChunkTranscript(70_000, 100_000, List.of(
+				utterance(1, 5_000, 8_000, "c"),
+				utterance(0, 20_000, 8_000, "d"),
+				utterance(2, 40_000, 5_000, "e")));
+
+		List<TranscriptionResult.Utterance> stitched = TranscriptStitcher.stitch(List.of(first, second));
+
+		assertThat(stitched).extracting(TranscriptionResult.Utterance::getMsg).containsExactly("a", "b", "c", "d", "e");
+		assertThat(stitched).extracting(TranscriptionResult.Utterance::getSpk).containsExactly(0, 1, 0, 1, 2);
+		assertThat(stitched).extracting(TranscriptionResult.Utterance::getStartAt)
+				.containsExactly(1_000L, 60_000L, 75_000L, 90_000L, 110_000L);
+	}
+
+	@Test
+	void splitWavProducesOverlappingFrameAlignedChunks() throws IOException {
+		// 16kHz, 16bit, mono → 32000 bytes/s, 25초
+		Path wav = writePcmWav(tempDir.resolve("long.wav"), 16_000, 2, 25);
+
+		List<WavChunker.Chunk> chunks = WavChunker.split(wav, tempDir, Duration.ofSeconds(10), Duration.ofSeconds(2));
+
+		assertThat(chunks).extracting(WavChunker.Chunk::getOffsetMillis).containsExactly(0L, 8_000L, 16_000L);
+		assertThat(chunks).extracting(WavChunker.Chunk::getDurationMillis).containsExactly(10_000L, 10_000L, 9_000L);
+		for (WavChunker.Chunk chunk : chunks) {
+			assertThat(WavChunker.durationMillis(chunk.getPath())).isEqualTo(chunk.getDurationMillis());
+		}
+	}
+
+	private TranscriptionResult.Utterance utterance(int spk, long startAt, long duration, String msg) {
+		TranscriptionResult.Utterance utterance = new TranscriptionResult.Utterance();
+		utterance.setSpk(spk);
+		utterance.setStartAt(startAt);
+		utterance.setDuration(duration);
+		utterance.setMsg(msg);
+		return utterance;
+	}
+
+	private Path writePcmWav(Path path, int sampleRate, int blockAlign, int seconds) throws IOException {
+		int dataSize = sampleRate * blockAlign * seconds;
+		ByteBuffer buffer = ByteBuffer.allocate(44 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.putInt(0x46464952).putInt(36 + dataSize).putInt(0x45564157);
+		buffer.putInt(0x20746d66).putInt(16)
+				.putShort((short) 1).putShort((short) 1)
+				.putInt(sampleRate).putInt(sampleRate * blockAlign)
+				.putShort((short) blockAlign).putShort((short) (blockAlign * 8));
+		buffer.putInt(0x61746164).putInt(dataSize);
+		Files.write(path, buffer.array());
+		return path;
+	}
+}